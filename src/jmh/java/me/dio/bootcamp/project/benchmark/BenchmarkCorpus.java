@@ -0,0 +1,77 @@
+package me.dio.bootcamp.project.benchmark;
+
+import java.util.Random;
+
+/**
+ * Corpus em português gerado de forma determinística (semente fixa), para que os resultados
+ * sejam comparáveis entre execuções. Só usa caracteres aceitos pela validação de {@code TextRequest}.
+ */
+public final class BenchmarkCorpus {
+
+    public enum Size {
+        SHORT(120),
+        MEDIUM(600),
+        MAX(1500);
+
+        private final int maxChars;
+
+        Size(int maxChars) {
+            this.maxChars = maxChars;
+        }
+
+        public int maxChars() {
+            return maxChars;
+        }
+    }
+
+    private static final long SEED = 20250301L;
+
+    private static final String[] SENTENCES = {
+            "O banco central manteve a taxa básica de juros pela terceira reunião seguida.",
+            "Segundo os analistas, a inflação de serviços ainda preocupa o comitê.",
+            "A prefeitura anunciou novas linhas de ônibus para os bairros da zona norte.",
+            "Os moradores reclamam da demora nas obras do corredor exclusivo.",
+            "O time da casa venceu o clássico por dois a um, com gol nos acréscimos.",
+            "Com o resultado, a equipe assumiu a liderança isolada do campeonato.",
+            "Pesquisadores da universidade desenvolveram um sensor de baixo custo para medir a qualidade do ar.",
+            "O equipamento deve ser instalado em escolas públicas ainda neste semestre.",
+            "A safra de soja deve bater recorde, impulsionada pelo clima favorável no Centro Oeste.",
+            "Por outro lado, o preço do frete subiu e reduziu a margem dos produtores.",
+            "Você já pensou em quanto tempo passa no trânsito por semana?",
+            "A nova lei exige que as empresas informem o consumo de energia dos aparelhos.",
+            "O festival de cinema recebeu mais de trezentos filmes inscritos este ano!",
+            "As sessões gratuitas acontecem na praça central a partir das dezenove horas.",
+            "Especialistas recomendam beber água com frequência durante os dias mais quentes.",
+            "O relatório aponta crescimento de doze por cento nas vendas do comércio eletrônico."
+    };
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Monta um texto com sentenças sorteadas até o limite de caracteres do tamanho pedido,
+     * sempre terminando em uma sentença completa.
+     */
+    public static String text(Size size) {
+        return text(size, 0);
+    }
+
+    /**
+     * Variação {@code variant} do texto do tamanho pedido, para montar páginas com textos diferentes.
+     */
+    public static String text(Size size, int variant) {
+        Random random = new Random(SEED + size.ordinal() + 31L * variant);
+        StringBuilder text = new StringBuilder(size.maxChars());
+        while (true) {
+            String sentence = SENTENCES[random.nextInt(SENTENCES.length)];
+            int separator = text.isEmpty() ? 0 : 1;
+            if (text.length() + separator + sentence.length() > size.maxChars()) {
+                return text.toString();
+            }
+            if (separator > 0) {
+                text.append(' ');
+            }
+            text.append(sentence);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package me.dio.bootcamp.project.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Textos em português com as sentenças marcadas à mão, para medir a precisão dos divisores de
+ * sentenças. {@link Kind#CLEAN} é prosa jornalística bem pontuada, como a maior parte das entradas;
+ * {@link Kind#HARD} reúne abreviações, siglas, números, citações e reticências.
+ */
+public final class LabeledSentenceCorpus {
+
+    public enum Kind {
+        CLEAN,
+        HARD
+    }
+
+    /**
+     * Um texto e as posições em que cada sentença termina.
+     */
+    public record Document(String text, int[] ends) {
+    }
+
+    private static final long SEED = 20250415L;
+    private static final int DOCUMENTS = 200;
+
+    private static final String[] CLEAN = {
+            "O banco central manteve a taxa básica de juros pela terceira reunião seguida.",
+            "Segundo os analistas, a inflação de serviços ainda preocupa o comitê.",
+            "A prefeitura anunciou novas linhas de ônibus para os bairros da zona norte.",
+            "Os moradores reclamam da demora nas obras do corredor exclusivo.",
+            "O time da casa venceu o clássico por dois a um, com gol nos acréscimos.",
+            "Com o resultado, a equipe assumiu a liderança isolada do campeonato.",
+            "Pesquisadores da universidade desenvolveram um sensor de baixo custo para medir a qualidade do ar.",
+            "O equipamento deve ser instalado em escolas públicas ainda neste semestre.",
+            "Você já pensou em quanto tempo passa no trânsito por semana?",
+            "O festival de cinema recebeu mais de trezentos filmes inscritos este ano!",
+            "As sessões gratuitas acontecem na praça central a partir das 19h.",
+            "O relatório aponta crescimento de 12,5% nas vendas do comércio eletrônico em 2024.",
+            "\"Ainda há muito a fazer\", afirmou a secretária de saúde.",
+            "A obra custou R$ 1.200.000 e foi entregue em março."
+    };
+
+    private static final String[] HARD = {
+            "O Sr. Almeida e a Dra. Beatriz Souza participaram da audiência.",
+            "A empresa Exemplo S.A. divulgou o balanço do trimestre.",
+            "O contrato, conforme o art. 5 da lei, vale por dois anos.",
+            "O prazo vai até 10 de jan. de 2026, segundo o edital.",
+            "A Av. Paulista ficou fechada durante a manhã.",
+            "Os dados estão na pág. 42 do relatório, na tabela 3.",
+            "O Prof. Carlos Lima coordenou a pesquisa com a profa. Ana.",
+            "O site www.exemplo.com.br saiu do ar por duas horas.",
+            "Compraram arroz, feijão, café etc. e voltaram para casa.",
+            "A cidade foi fundada no séc. XVI, por volta de 1560.",
+            "Bem... talvez seja melhor esperar o resultado.",
+            "Ele perguntou: \"Quem vai pagar a conta?\"",
+            "O índice subiu 3.5 pontos em relação a jan. do ano passado.",
+            "A reunião com o Exmo. Sr. Prefeito foi adiada.",
+            "A Cia. Paulista de Trens comprou novos vagões."
+    };
+
+    private LabeledSentenceCorpus() {
+    }
+
+    public static List<Document> documents(Kind kind) {
+        String[] sentences = kind == Kind.CLEAN ? CLEAN : HARD;
+        Random random = new Random(SEED + kind.ordinal());
+        List<Document> documents = new ArrayList<>(DOCUMENTS);
+        for (int d = 0; d < DOCUMENTS; d++) {
+            int count = 3 + random.nextInt(6);
+            StringBuilder text = new StringBuilder();
+            int[] ends = new int[count];
+            for (int s = 0; s < count; s++) {
+                if (s > 0) {
+                    text.append(random.nextInt(5) == 0 ? "\n" : " ");
+                }
+                // Nos textos difíceis, metade das sentenças é prosa limpa
+                String[] pool = kind == Kind.HARD && random.nextBoolean() ? CLEAN : sentences;
+                text.append(pool[random.nextInt(pool.length)]);
+                ends[s] = text.length();
+            }
+            documents.add(new Document(text.toString(), ends));
+        }
+        return documents;
+    }
+}
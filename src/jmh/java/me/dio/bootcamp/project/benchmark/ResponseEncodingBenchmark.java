@@ -0,0 +1,92 @@
+package me.dio.bootcamp.project.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.dio.bootcamp.project.Controller.Mapper.TextMapper;
+import me.dio.bootcamp.project.Controller.Response.TextResponse;
+import me.dio.bootcamp.project.entity.Text;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialização de uma página de {@code GET /text/find} em cada formato negociável, com e sem gzip.
+ * O tamanho em bytes de cada combinação é impresso ao fim de cada trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    public enum Format {
+        JSON(Jackson2ObjectMapperBuilder::json),
+        CBOR(Jackson2ObjectMapperBuilder::cbor),
+        SMILE(Jackson2ObjectMapperBuilder::smile);
+
+        private final Supplier<Jackson2ObjectMapperBuilder> builder;
+
+        Format(Supplier<Jackson2ObjectMapperBuilder> builder) {
+            this.builder = builder;
+        }
+
+        ObjectMapper mapper() {
+            return builder.get().build();
+        }
+    }
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public Format format;
+
+    @Param({"SHORT", "MAX"})
+    public BenchmarkCorpus.Size size;
+
+    @Param({"1", "100"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private List<TextResponse> page;
+
+    @Setup
+    public void setUp() {
+        mapper = format.mapper();
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            String content = BenchmarkCorpus.text(size, i);
+            Text text = Text.builder()
+                    .id((long) i + 1)
+                    .text(content)
+                    .textReduced(content.substring(0, content.indexOf('.') + 1))
+                    .build();
+            page.add(TextMapper.toTextResponse(text));
+        }
+    }
+
+    @TearDown
+    public void printSizes() throws IOException {
+        System.out.printf("%n%s size=%s pageSize=%d: %d bytes, %d bytes com gzip%n",
+                format, size, pageSize, serialize().length, serializeGzip().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(gzip, page);
+        }
+        return bytes.toByteArray();
+    }
+}
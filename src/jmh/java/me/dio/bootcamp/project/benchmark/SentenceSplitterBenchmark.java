@@ -0,0 +1,90 @@
+package me.dio.bootcamp.project.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dio.bootcamp.project.service.RuleBasedSentenceSplitter;
+import me.dio.bootcamp.project.service.SentenceDetectorPool;
+import me.dio.bootcamp.project.service.SentenceSplitter;
+import me.dio.bootcamp.project.service.SentenceSplitterMode;
+import opennlp.tools.util.Span;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Velocidade e precisão do {@link RuleBasedSentenceSplitter} contra o modelo do OpenNLP sobre o
+ * {@link LabeledSentenceCorpus}. A precisão não depende da medição: ela é calculada uma vez no
+ * {@code @Setup} e impressa junto com os resultados, com a fração de textos que caiu no modelo.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="SentenceSplitterBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SentenceSplitterBenchmark {
+
+    @Param({"MODEL", "RULES"})
+    public SentenceSplitterMode splitter;
+
+    @Param({"CLEAN", "HARD"})
+    public LabeledSentenceCorpus.Kind corpus;
+
+    private SentenceSplitter sentences;
+    private List<LabeledSentenceCorpus.Document> documents;
+
+    @Setup
+    public void setUp() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SentenceDetectorPool pool = new SentenceDetectorPool(0, Duration.ofSeconds(5), false, "pt", "", registry);
+        sentences = splitter == SentenceSplitterMode.RULES
+                ? new RuleBasedSentenceSplitter(registry).withFallback(pool)
+                : pool;
+        documents = LabeledSentenceCorpus.documents(corpus);
+        printAccuracy(registry);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(200)
+    public void sentPosDetect(Blackhole blackhole) {
+        for (LabeledSentenceCorpus.Document document : documents) {
+            blackhole.consume(sentences.sentPosDetect(document.text()));
+        }
+    }
+
+    private void printAccuracy(SimpleMeterRegistry registry) {
+        int found = 0;
+        int correct = 0;
+        int expected = 0;
+        int exact = 0;
+        for (LabeledSentenceCorpus.Document document : documents) {
+            int[] ends = Arrays.stream(sentences.sentPosDetect(document.text())).mapToInt(Span::getEnd).toArray();
+            found += ends.length;
+            expected += document.ends().length;
+            for (int end : ends) {
+                if (Arrays.binarySearch(document.ends(), end) >= 0) {
+                    correct++;
+                }
+            }
+            if (Arrays.equals(ends, document.ends())) {
+                exact++;
+            }
+        }
+        double precision = (double) correct / found;
+        double recall = (double) correct / expected;
+        double fallback = registry.find("summarizer.splitter.texts").tag("path", "fallback").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+        System.out.printf(Locale.ROOT, "%n%s/%s: precisão %.3f, revocação %.3f, F1 %.3f, textos exatos %.1f%%, modelo em %.1f%% dos textos%n",
+                splitter.id(), corpus.name().toLowerCase(Locale.ROOT), precision, recall,
+                2 * precision * recall / (precision + recall), 100.0 * exact / documents.size(),
+                splitter == SentenceSplitterMode.RULES ? 100.0 * fallback / documents.size() : 100.0);
+    }
+}
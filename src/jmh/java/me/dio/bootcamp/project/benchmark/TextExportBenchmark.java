@@ -0,0 +1,93 @@
+package me.dio.bootcamp.project.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.dio.bootcamp.project.service.ExportFormat;
+import me.dio.bootcamp.project.service.TextExportWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Vazão dos escritores de {@code GET /text/export}, sem o banco: cada operação escreve 10.000 linhas
+ * num stream que só conta bytes. Os MB/s de cada combinação são impressos ao fim de cada trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextExportBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"NDJSON", "CSV"})
+    public ExportFormat format;
+
+    @Param({"SHORT", "MAX"})
+    public BenchmarkCorpus.Size size;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String[] texts;
+    private String[] summaries;
+    private long bytes;
+    private long nanos;
+
+    @Setup
+    public void setUp() {
+        texts = new String[64];
+        summaries = new String[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = BenchmarkCorpus.text(size, i);
+            summaries[i] = texts[i].substring(0, texts[i].indexOf('.') + 1);
+        }
+    }
+
+    @TearDown
+    public void printThroughput() {
+        System.out.printf("%n%s size=%s gzip=%s: %.1f MB/s de texto exportado%n",
+                format, size, gzip, bytes / 1e6 / (nanos / 1e9));
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        long start = System.nanoTime();
+        CountingOutputStream counter = new CountingOutputStream();
+        OutputStream out = gzip ? new GZIPOutputStream(counter, 64 * 1024) : counter;
+        TextExportWriter writer = TextExportWriter.of(format, out, mapper);
+        long written = 0;
+        for (int i = 0; i < ROWS; i++) {
+            String text = texts[i % texts.length];
+            writer.row(i + 1, text, summaries[i % summaries.length]);
+            written += text.length();
+        }
+        writer.flush();
+        if (out instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        nanos += System.nanoTime() - start;
+        bytes += written;
+        return counter.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package me.dio.bootcamp.project.benchmark;
+
+import me.dio.bootcamp.project.Controller.Mapper.TextMapper;
+import me.dio.bootcamp.project.Controller.Request.TextRequest;
+import me.dio.bootcamp.project.Controller.Response.TextResponse;
+import me.dio.bootcamp.project.entity.Text;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextMapperBenchmark {
+
+    @Param({"SHORT", "MEDIUM", "MAX"})
+    public BenchmarkCorpus.Size size;
+
+    private TextRequest request;
+    private Text text;
+
+    @Setup
+    public void setUp() {
+        String content = BenchmarkCorpus.text(size);
+        request = TextRequest.builder().text(content).build();
+        text = Text.builder().id(1L).text(content).textReduced(content.substring(0, content.indexOf('.') + 1)).build();
+    }
+
+    @Benchmark
+    public Text toText() {
+        return TextMapper.toText(request);
+    }
+
+    @Benchmark
+    public TextResponse toTextResponse() {
+        return TextMapper.toTextResponse(text);
+    }
+}
@@ -0,0 +1,50 @@
+package me.dio.bootcamp.project.benchmark;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import me.dio.bootcamp.project.Controller.Request.TextRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação completa de {@link TextRequest}, dominada pelo {@code @Pattern} aplicado ao texto inteiro.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextRequestValidationBenchmark {
+
+    @Param({"SHORT", "MEDIUM", "MAX"})
+    public BenchmarkCorpus.Size size;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private TextRequest request;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        request = TextRequest.builder().text(BenchmarkCorpus.text(size)).build();
+        if (!validator.validate(request).isEmpty()) {
+            throw new IllegalStateException("O corpus do benchmark deveria ser válido");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TextRequest>> validate() {
+        return validator.validate(request);
+    }
+}
@@ -0,0 +1,62 @@
+package me.dio.bootcamp.project.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dio.bootcamp.project.service.SentenceDetectorPool;
+import me.dio.bootcamp.project.service.SentenceModelRegistry;
+import me.dio.bootcamp.project.service.SummaryCache;
+import me.dio.bootcamp.project.service.TextSummarizer;
+import me.dio.bootcamp.project.service.strategy.LeadSummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import me.dio.bootcamp.project.service.strategy.TextRankSummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.TfIdfSummarizationStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de {@link TextSummarizer#summarize} com o cache desligado, para medir a detecção de
+ * sentenças e a estratégia de ranqueamento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextSummarizerBenchmark {
+
+    @Param({"SHORT", "MEDIUM", "MAX"})
+    public BenchmarkCorpus.Size size;
+
+    @Param({"LEAD", "TFIDF", "TEXTRANK"})
+    public SummaryAlgorithm algorithm;
+
+    @Param({"2"})
+    public int lines;
+
+    private TextSummarizer summarizer;
+    private String text;
+
+    @Setup
+    public void setUp() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SentenceDetectorPool pool = new SentenceDetectorPool(0, Duration.ofSeconds(5), false, "pt", "", registry);
+        summarizer = new TextSummarizer(
+                List.of(new LeadSummarizationStrategy(),
+                        new TfIdfSummarizationStrategy(),
+                        new TextRankSummarizationStrategy()),
+                new SummaryCache(DataSize.ofBytes(0), registry),
+                new SentenceModelRegistry(pool, "pt", "", DataSize.ofMegabytes(256), 0, Duration.ofSeconds(5), registry),
+                "model", registry);
+        text = BenchmarkCorpus.text(size);
+    }
+
+    @Benchmark
+    public String summarize() {
+        return summarizer.summarize(text, lines, algorithm, null);
+    }
+}
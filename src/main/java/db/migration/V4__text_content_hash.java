@@ -0,0 +1,70 @@
+package db.migration;
+
+import me.dio.bootcamp.project.service.ContentHash;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Cria {@code content_hash} e o preenche em lotes com o {@link ContentHash} da aplicação. O hash não
+ * é calculado em SQL porque {@code lower()} e {@code \s} do PostgreSQL dependem do locale do banco
+ * e podem divergir do Java (com ctype C, "É" não vira "é").
+ * <p>
+ * Duplicatas já existentes ficam sem hash: o índice único só é criado depois de anulá-las, e apenas
+ * o registro mais antigo participa dele.
+ */
+public class V4__text_content_hash extends BaseJavaMigration {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE text ADD COLUMN content_hash VARCHAR(64)");
+        }
+
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement("UPDATE text SET content_hash = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rows = select.executeQuery("SELECT id, text FROM text WHERE text IS NOT NULL ORDER BY id")) {
+                int pending = 0;
+                while (rows.next()) {
+                    update.setString(1, ContentHash.of(rows.getString(2)));
+                    update.setLong(2, rows.getLong(1));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            clearDuplicates(statement);
+            statement.execute("CREATE UNIQUE INDEX text_content_hash_key ON text (content_hash)");
+        }
+    }
+
+    private static void clearDuplicates(Statement statement) throws SQLException {
+        statement.executeUpdate("""
+                UPDATE text
+                SET content_hash = NULL
+                WHERE id IN (
+                    SELECT id
+                    FROM (SELECT id, row_number() OVER (PARTITION BY content_hash ORDER BY id) AS position
+                          FROM text
+                          WHERE content_hash IS NOT NULL) ranked
+                    WHERE position > 1
+                )""");
+    }
+}
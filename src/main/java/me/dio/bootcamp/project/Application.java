@@ -4,13 +4,17 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.servers.Server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @OpenAPIDefinition(servers = {@Server(url="/", description = "Default server URL")})
 @SpringBootApplication
 public class Application {
 
 	public static void main(String[] args) {
-		SpringApplication.run(Application.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(Application.class, args);
+		if (context.getBean(ImportCommand.class).isEnabled()) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -0,0 +1,17 @@
+package me.dio.bootcamp.project.Controller;
+
+import me.dio.bootcamp.project.service.ExportFormat;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aceita o formato do export em minúsculas na query string ({@code ?format=csv}).
+ */
+@Component
+public class ExportFormatConverter implements Converter<String, ExportFormat> {
+
+    @Override
+    public ExportFormat convert(String source) {
+        return ExportFormat.from(source);
+    }
+}
@@ -1,10 +1,14 @@
 package me.dio.bootcamp.project.Controller;
 
+import me.dio.bootcamp.project.service.UnsupportedLanguageException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,4 +23,33 @@ public class GlobalExceptionHandler {
         );
         return ResponseEntity.badRequest().body(errors);
     }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Map<String, String>> handleMethodValidationExceptions(HandlerMethodValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getParameterValidationResults().forEach(result -> {
+            String name = result.getMethodParameter().getParameterName();
+            String prefix = result.getContainerIndex() != null ? name + "[" + result.getContainerIndex() + "]" : name;
+            result.getResolvableErrors().forEach(error ->
+                    errors.put(error instanceof FieldError fieldError ? prefix + "." + fieldError.getField() : prefix,
+                            error.getDefaultMessage())
+            );
+        });
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleTypeMismatchExceptions(MethodArgumentTypeMismatchException ex) {
+        Map<String, String> errors = new HashMap<>();
+        Throwable cause = ex.getMostSpecificCause();
+        errors.put(ex.getName(), cause instanceof IllegalArgumentException ? cause.getMessage() : "Valor inválido: " + ex.getValue());
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    @ExceptionHandler(UnsupportedLanguageException.class)
+    public ResponseEntity<Map<String, String>> handleUnsupportedLanguageException(UnsupportedLanguageException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("language", ex.getMessage());
+        return ResponseEntity.badRequest().body(errors);
+    }
 }
@@ -2,8 +2,12 @@ package me.dio.bootcamp.project.Controller.Mapper;
 
 import lombok.experimental.UtilityClass;
 import me.dio.bootcamp.project.Controller.Request.TextRequest;
+import me.dio.bootcamp.project.Controller.Response.TextBatchItemResponse;
+import me.dio.bootcamp.project.Controller.Response.TextJobResponse;
 import me.dio.bootcamp.project.Controller.Response.TextResponse;
 import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.service.BatchItemResult;
+import me.dio.bootcamp.project.service.SummarizationJob;
 
 @UtilityClass
 public class TextMapper {
@@ -21,4 +25,22 @@ public class TextMapper {
                 .textReduced(text.getTextReduced())
                 .build();
     }
+
+    public static TextBatchItemResponse toTextBatchItemResponse(BatchItemResult result) {
+        return TextBatchItemResponse.builder()
+                .index(result.index())
+                .status(result.status().name())
+                .text(result.text() != null ? toTextResponse(result.text()) : null)
+                .message(result.message())
+                .build();
+    }
+
+    public static TextJobResponse toTextJobResponse(SummarizationJob job) {
+        return TextJobResponse.builder()
+                .id(job.id())
+                .status(job.status().name())
+                .textId(job.textId())
+                .message(job.message())
+                .build();
+    }
 }
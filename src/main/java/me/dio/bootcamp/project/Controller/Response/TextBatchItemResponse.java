@@ -0,0 +1,29 @@
+package me.dio.bootcamp.project.Controller.Response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Resultado do processamento de um item do lote")
+public record TextBatchItemResponse(
+        @Schema(
+                description = "Posição do item na requisição",
+                example = "0"
+        )
+        int index,
+
+        @Schema(
+                description = "Situação do item: SAVED, DUPLICATE ou FAILED",
+                example = "SAVED"
+        )
+        String status,
+
+        @Schema(description = "Texto salvo (apenas quando status = SAVED)")
+        TextResponse text,
+
+        @Schema(
+                description = "Motivo da falha ou duplicidade",
+                example = "Texto já existe no banco de dados."
+        )
+        String message
+) {}
@@ -0,0 +1,34 @@
+package me.dio.bootcamp.project.Controller.Response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+@Schema(description = "Situação de um job de sumarização assíncrona")
+public record TextJobResponse(
+        @Schema(
+                description = "ID do job",
+                example = "3f2c1a9e-7b4d-4c1e-9a51-2d6f0e8b7c10"
+        )
+        UUID id,
+
+        @Schema(
+                description = "Situação do job: PENDING, RUNNING, DONE, DUPLICATE ou FAILED",
+                example = "DONE"
+        )
+        String status,
+
+        @Schema(
+                description = "ID do texto salvo, para consulta em /text/find/{id} (apenas quando status = DONE)",
+                example = "1"
+        )
+        Long textId,
+
+        @Schema(
+                description = "Motivo da falha ou duplicidade",
+                example = "Texto já existe no banco de dados."
+        )
+        String message
+) {}
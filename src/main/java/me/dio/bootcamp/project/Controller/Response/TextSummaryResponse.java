@@ -0,0 +1,26 @@
+package me.dio.bootcamp.project.Controller.Response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Resumo de um texto já salvo com o número de linhas pedido")
+public record TextSummaryResponse(
+        @Schema(
+                description = "ID do texto",
+                example = "1"
+        )
+        Long id,
+
+        @Schema(
+                description = "Número de sentenças pedido",
+                example = "3"
+        )
+        int lines,
+
+        @Schema(
+                description = "Primeiras sentenças do texto",
+                example = "Este é um exemplo reduzido."
+        )
+        String summary
+) {}
@@ -0,0 +1,17 @@
+package me.dio.bootcamp.project.Controller;
+
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aceita o algoritmo em minúsculas na query string ({@code ?algorithm=textrank}).
+ */
+@Component
+public class SummaryAlgorithmConverter implements Converter<String, SummaryAlgorithm> {
+
+    @Override
+    public SummaryAlgorithm convert(String source) {
+        return SummaryAlgorithm.from(source);
+    }
+}
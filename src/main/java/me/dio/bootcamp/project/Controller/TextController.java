@@ -2,34 +2,93 @@ package me.dio.bootcamp.project.Controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import me.dio.bootcamp.project.Controller.Mapper.TextMapper;
 import me.dio.bootcamp.project.Controller.Request.TextRequest;
+import me.dio.bootcamp.project.Controller.Response.TextBatchItemResponse;
+import me.dio.bootcamp.project.Controller.Response.TextJobResponse;
 import me.dio.bootcamp.project.Controller.Response.TextResponse;
+import me.dio.bootcamp.project.Controller.Response.TextSummaryResponse;
 import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.service.ContentHash;
+import me.dio.bootcamp.project.service.DuplicateTextException;
+import me.dio.bootcamp.project.service.ExportFormat;
+import me.dio.bootcamp.project.service.JobQueueFullException;
+import me.dio.bootcamp.project.service.SentenceModelRegistry;
+import me.dio.bootcamp.project.service.SummarizationJob;
+import me.dio.bootcamp.project.service.SummarizationJobService;
+import me.dio.bootcamp.project.service.SummarizationLimiter;
+import me.dio.bootcamp.project.service.SummarizationOverloadedException;
+import me.dio.bootcamp.project.service.TextBatchService;
+import me.dio.bootcamp.project.service.TextExportService;
+import me.dio.bootcamp.project.service.TextNotFoundException;
+import me.dio.bootcamp.project.service.TextPage;
 import me.dio.bootcamp.project.service.TextService;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/text")
 @Tag(name = "Text Controller", description = "Endpoints para gerenciar textos")
 public class TextController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int MAX_PAGE_SIZE = 1000;
+    static final String JOB_RETRY_AFTER_SECONDS = "5";
+    static final String OVERLOAD_RETRY_AFTER_SECONDS = "1";
+    static final String INVALID_LINES_MESSAGE = "O número de linhas deve ser maior que zero.";
+
     private final TextService textService;
+    private final TextBatchService textBatchService;
+    private final TextExportService textExportService;
+    private final SummarizationJobService jobService;
+    private final SummarizationLimiter limiter;
+    private final SentenceModelRegistry modelRegistry;
+    private final DataSize maxUploadSize;
 
-    public TextController(TextService textService) {
+    public TextController(TextService textService, TextBatchService textBatchService,
+                          TextExportService textExportService,
+                          SummarizationJobService jobService,
+                          SummarizationLimiter limiter, SentenceModelRegistry modelRegistry,
+                          @Value("${summarizer.upload.max-size:10MB}") DataSize maxUploadSize) {
         this.textService = textService;
+        this.textBatchService = textBatchService;
+        this.textExportService = textExportService;
+        this.jobService = jobService;
+        this.limiter = limiter;
+        this.modelRegistry = modelRegistry;
+        this.maxUploadSize = maxUploadSize;
     }
 
     @PostMapping("/save")
@@ -37,19 +96,157 @@ public class TextController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Texto salvo com sucesso", content = @Content(schema = @Schema(implementation = TextResponse.class))),
             @ApiResponse(responseCode = "400", description = "Texto já existe no banco de dados", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "503", description = "Servidor sobrecarregado ou limite do cliente atingido", content = @Content(schema = @Schema(implementation = String.class)),
+                    headers = @Header(name = HttpHeaders.RETRY_AFTER, description = "Segundos sugeridos antes de tentar novamente")),
             @ApiResponse(responseCode = "500", description = "Erro interno ao salvar o texto", content = @Content(schema = @Schema(implementation = String.class)))
     })
     public ResponseEntity<?> saveText(
             @Parameter(description = "Dados do texto a ser salvo", required = true) @Valid @RequestBody TextRequest textRequest,
-            @Parameter(description = "Número de linhas", example = "2") @RequestParam(defaultValue = "2") int lines) {
+            @Parameter(description = "Número de linhas", example = "2") @RequestParam(defaultValue = "2") int lines,
+            @Parameter(description = "Algoritmo de sumarização: lead, tfidf ou textrank", example = "lead") @RequestParam(defaultValue = "lead") SummaryAlgorithm algorithm,
+            @Parameter(description = "Idioma do texto, como pt, en ou es. Sem ele, o idioma é detectado", example = "pt") @RequestParam(required = false) String language,
+            HttpServletRequest request) {
+        String languageCode = installed(language);
+        if (lines < 1) {
+            return ResponseEntity.badRequest().body(INVALID_LINES_MESSAGE);
+        }
 
         if (textService.existsByText(textRequest.text())) {
             return ResponseEntity.badRequest().body("Texto já existe no banco de dados.");
         }
 
-        Text toText = TextMapper.toText(textRequest);
-        Text savedText = textService.saveText(toText.getText(), lines);
-        return ResponseEntity.ok().body(TextMapper.toTextResponse(savedText));
+        try (SummarizationLimiter.Permit permit = limiter.acquire(clientKey(request))) {
+            Text toText = TextMapper.toText(textRequest);
+            Text savedText = textService.saveText(toText.getText(), lines, algorithm, languageCode);
+            return ResponseEntity.ok().body(TextMapper.toTextResponse(savedText));
+        } catch (DuplicateTextException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (SummarizationOverloadedException e) {
+            return overloaded(e);
+        }
+    }
+
+    @PostMapping("/save/batch")
+    @Operation(summary = "Salvar textos em lote", description = "Resume os textos em paralelo e salva todos em uma única operação em lote")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; o resultado de cada item é informado individualmente", content = @Content(array = @ArraySchema(schema = @Schema(implementation = TextBatchItemResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, grande demais ou com textos inválidos", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno ao salvar o lote", content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    public ResponseEntity<?> saveTexts(
+            @Parameter(description = "Textos a serem salvos", required = true)
+            @RequestBody @NotEmpty(message = "O lote não pode ser vazio")
+            @Size(max = 1000, message = "O lote não pode ter mais de 1000 textos") List<@Valid TextRequest> textRequests,
+            @Parameter(description = "Número de linhas", example = "2") @RequestParam(defaultValue = "2") int lines,
+            @Parameter(description = "Algoritmo de sumarização: lead, tfidf ou textrank", example = "lead") @RequestParam(defaultValue = "lead") SummaryAlgorithm algorithm,
+            @Parameter(description = "Idioma do texto, como pt, en ou es. Sem ele, o idioma é detectado", example = "pt") @RequestParam(required = false) String language) {
+        String languageCode = installed(language);
+        if (lines < 1) {
+            return ResponseEntity.badRequest().body(INVALID_LINES_MESSAGE);
+        }
+        try {
+            List<String> texts = textRequests.stream().map(TextRequest::text).toList();
+            return ResponseEntity.ok(
+                    textBatchService.saveTexts(texts, lines, algorithm, languageCode).stream().map(TextMapper::toTextBatchItemResponse).collect(Collectors.toList())
+            );
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("Erro ao salvar o lote: " + e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/save/stream", consumes = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Salvar um documento grande", description = "Recebe o texto puro (UTF-8), opcionalmente com Content-Encoding: gzip, sem o limite de 1500 caracteres de /text/save")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Texto salvo com sucesso", content = @Content(schema = @Schema(implementation = TextResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Texto vazio ou já existente no banco de dados", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "413", description = "Texto maior que o limite configurado", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "503", description = "Servidor sobrecarregado ou limite do cliente atingido", content = @Content(schema = @Schema(implementation = String.class)),
+                    headers = @Header(name = HttpHeaders.RETRY_AFTER, description = "Segundos sugeridos antes de tentar novamente")),
+            @ApiResponse(responseCode = "500", description = "Erro interno ao salvar o texto", content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    public ResponseEntity<?> saveLargeText(
+            @Parameter(hidden = true) InputStream body,
+            @Parameter(description = "Use gzip para enviar o texto comprimido") @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @Parameter(description = "Número de linhas", example = "2") @RequestParam(defaultValue = "2") int lines,
+            @Parameter(description = "Algoritmo de sumarização: lead, tfidf ou textrank", example = "lead") @RequestParam(defaultValue = "lead") SummaryAlgorithm algorithm,
+            @Parameter(description = "Idioma do texto, como pt, en ou es. Sem ele, o idioma é detectado", example = "pt") @RequestParam(required = false) String language,
+            HttpServletRequest request) {
+        String languageCode = installed(language);
+        if (lines < 1) {
+            return ResponseEntity.badRequest().body(INVALID_LINES_MESSAGE);
+        }
+        try {
+            String text = readText(body, "gzip".equalsIgnoreCase(contentEncoding));
+            if (text == null) {
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                        .body("O texto não pode ter mais de " + maxUploadSize.toMegabytes() + " MB");
+            }
+            if (text.isBlank()) {
+                return ResponseEntity.badRequest().body("Texto não pode ser vazio");
+            }
+            if (textService.existsByText(text)) {
+                return ResponseEntity.badRequest().body("Texto já existe no banco de dados.");
+            }
+            // A vaga só é reservada depois da leitura, para que um upload lento não a ocupe
+            try (SummarizationLimiter.Permit permit = limiter.acquireUnsampled(clientKey(request))) {
+                Text savedText = textService.saveText(text, lines, algorithm, languageCode);
+                return ResponseEntity.ok(TextMapper.toTextResponse(savedText));
+            }
+        } catch (DuplicateTextException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (SummarizationOverloadedException e) {
+            return overloaded(e);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Não foi possível ler o texto: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/save/async")
+    @Operation(summary = "Salvar um texto em segundo plano", description = "Enfileira o texto para sumarização e retorna imediatamente o ID do job, que pode ser consultado em /text/jobs/{id}")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job aceito", content = @Content(schema = @Schema(implementation = TextJobResponse.class)),
+                    headers = @Header(name = HttpHeaders.LOCATION, description = "URL para consultar o job")),
+            @ApiResponse(responseCode = "400", description = "Texto já existe no banco de dados", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "503", description = "Fila de sumarização cheia", content = @Content(schema = @Schema(implementation = String.class)),
+                    headers = @Header(name = HttpHeaders.RETRY_AFTER, description = "Segundos sugeridos antes de tentar novamente"))
+    })
+    public ResponseEntity<?> saveTextAsync(
+            @Parameter(description = "Dados do texto a ser salvo", required = true) @Valid @RequestBody TextRequest textRequest,
+            @Parameter(description = "Número de linhas", example = "2") @RequestParam(defaultValue = "2") int lines,
+            @Parameter(description = "Algoritmo de sumarização: lead, tfidf ou textrank", example = "lead") @RequestParam(defaultValue = "lead") SummaryAlgorithm algorithm,
+            @Parameter(description = "Idioma do texto, como pt, en ou es. Sem ele, o idioma é detectado", example = "pt") @RequestParam(required = false) String language) {
+        String languageCode = installed(language);
+        if (lines < 1) {
+            return ResponseEntity.badRequest().body(INVALID_LINES_MESSAGE);
+        }
+
+        if (textService.existsByText(textRequest.text())) {
+            return ResponseEntity.badRequest().body("Texto já existe no banco de dados.");
+        }
+
+        try {
+            SummarizationJob job = jobService.submit(textRequest.text(), lines, algorithm, languageCode);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/text/jobs/" + job.id()))
+                    .body(TextMapper.toTextJobResponse(job));
+        } catch (JobQueueFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, JOB_RETRY_AFTER_SECONDS)
+                    .body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "Consultar job de sumarização", description = "Retorna a situação de um job criado em /text/save/async")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job encontrado", content = @Content(schema = @Schema(implementation = TextJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job não encontrado ou expirado", content = @Content(schema = @Schema(implementation = Void.class)))
+    })
+    public ResponseEntity<TextJobResponse> findJobById(
+            @Parameter(description = "ID do job", required = true) @PathVariable UUID id) {
+        return jobService.findById(id)
+                .map(job -> ResponseEntity.ok(TextMapper.toTextJobResponse(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
     @GetMapping("/find/content")
@@ -72,60 +269,177 @@ public class TextController {
     }
 
     @GetMapping("/find")
-    @Operation(summary = "Buscar todos os textos", description = "Busca todos os textos cadastrados")
+    @Operation(summary = "Buscar textos paginados", description = "Busca os textos em ordem de ID, uma página por vez. O cursor da próxima página é retornado no cabeçalho X-Next-Cursor")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Textos encontrados", content = @Content(schema = @Schema(implementation = TextResponse.class))),
+            @ApiResponse(responseCode = "200", description = "Textos encontrados", content = @Content(array = @ArraySchema(schema = @Schema(implementation = TextResponse.class))),
+                    headers = {
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Valor de 'after' para a próxima página; ausente na última página"),
+                            @Header(name = HttpHeaders.ETAG, description = "Versão da página, derivada dos IDs e versões dos textos")
+                    }),
+            @ApiResponse(responseCode = "304", description = "Página não mudou desde o ETag enviado em If-None-Match", content = @Content(schema = @Schema(implementation = Void.class))),
+            @ApiResponse(responseCode = "400", description = "Tamanho de página inválido", content = @Content(schema = @Schema(implementation = String.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno ao buscar textos", content = @Content(schema = @Schema(implementation = String.class)))
     })
-    public ResponseEntity<?> findAllTexts() {
+    public ResponseEntity<?> findAllTexts(
+            @Parameter(description = "Retorna apenas textos com ID maior que este cursor", example = "0") @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "Quantidade máxima de textos na página", example = "100") @RequestParam(defaultValue = "100") int limit,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
         try {
-            List<Text> texts = textService.findAll();
-            return ResponseEntity.ok(
-                    texts.stream().map(TextMapper::toTextResponse).collect(Collectors.toList())
+            TextPage page = textService.findPage(after, limit);
+            String etag = etag(page);
+            boolean notModified = notModified(ifNoneMatch, etag);
+            ResponseEntity.BodyBuilder response = ResponseEntity
+                    .status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                    .eTag(etag);
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+            }
+            if (notModified) {
+                return response.build();
+            }
+            return response.body(
+                    page.texts().stream().map(TextMapper::toTextResponse).collect(Collectors.toList())
             );
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("Erro ao buscar todos os textos: " + e.getMessage());
         }
     }
 
+    @GetMapping(value = "/find/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar textos em streaming", description = "Transmite todos os textos como NDJSON, um por linha, lendo do banco com cursor. "
+            + "Equivale a /text/export?format=ndjson, com o cursor em after")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Textos transmitidos", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TextResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllTexts(
+            @Parameter(description = "Retorna apenas textos com ID maior que este cursor", example = "0") @RequestParam(defaultValue = "0") long after) {
+        StreamingResponseBody body = outputStream -> textExportService.export(after, ExportFormat.NDJSON, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar textos em NDJSON ou CSV", description = "Transmite os textos em ordem de ID direto de um cursor do banco, sem montar entidades. "
+            + "Use o maior ID recebido em since-id para exportar só os textos novos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Textos transmitidos", content = {
+                    @Content(mediaType = ExportFormat.NDJSON_VALUE, schema = @Schema(implementation = TextResponse.class)),
+                    @Content(mediaType = ExportFormat.CSV_VALUE, schema = @Schema(implementation = String.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Formato inválido", content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportTexts(
+            @Parameter(description = "Formato do export: ndjson ou csv", example = "ndjson") @RequestParam(defaultValue = "ndjson") ExportFormat format,
+            @Parameter(description = "Exporta apenas textos com ID maior que este", example = "0") @RequestParam(name = "since-id", defaultValue = "0") long sinceId,
+            @Parameter(description = "Comprime a resposta com gzip", example = "false") @RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 64 * 1024);
+                textExportService.export(sinceId, format, gzipStream);
+                gzipStream.finish();
+            } else {
+                textExportService.export(sinceId, format, outputStream);
+            }
+        };
+        String filename = "texts." + format.extension() + (gzip ? ".gz" : "");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/find/{id}")
     @Operation(summary = "Buscar texto por ID", description = "Busca um texto pelo seu ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Texto encontrado", content = @Content(schema = @Schema(implementation = TextResponse.class))),
+            @ApiResponse(responseCode = "200", description = "Texto encontrado", content = @Content(schema = @Schema(implementation = TextResponse.class)),
+                    headers = @Header(name = HttpHeaders.ETAG, description = "Versão do texto")),
+            @ApiResponse(responseCode = "304", description = "Texto não mudou desde o ETag enviado em If-None-Match", content = @Content(schema = @Schema(implementation = Void.class))),
             @ApiResponse(responseCode = "404", description = "Texto não encontrado", content = @Content(schema = @Schema(implementation = Void.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno ao buscar o texto", content = @Content(schema = @Schema(implementation = String.class)))
     })
     public ResponseEntity<TextResponse> findTextById(
-            @Parameter(description = "ID do texto a ser buscado", required = true) @PathVariable Long id) {
+            @Parameter(description = "ID do texto a ser buscado", required = true) @PathVariable Long id,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Optional<Text> text = textService.findById(id);
-            return text.map(value -> ResponseEntity.ok(TextMapper.toTextResponse(value)))
+            return text.map(value -> {
+                        String etag = etag(value);
+                        if (notModified(ifNoneMatch, etag)) {
+                            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<TextResponse>build();
+                        }
+                        return ResponseEntity.ok().eTag(etag).body(TextMapper.toTextResponse(value));
+                    })
                     .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping("/{id}/summary")
+    @Operation(summary = "Resumir um texto salvo", description = "Devolve as primeiras sentenças de um texto já salvo, recortadas pelas fronteiras gravadas, sem reenviar o texto")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumo gerado", content = @Content(schema = @Schema(implementation = TextSummaryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Número de linhas inválido ou idioma não suportado", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "404", description = "Texto não encontrado", content = @Content(schema = @Schema(implementation = Void.class)))
+    })
+    public ResponseEntity<?> summarizeText(
+            @Parameter(description = "ID do texto", required = true) @PathVariable Long id,
+            @Parameter(description = "Número de linhas", example = "3") @RequestParam(defaultValue = "2") int lines,
+            @Parameter(description = "Idioma do texto, como pt, en ou es, usado na primeira detecção das fronteiras. Sem ele, o idioma é detectado", example = "pt") @RequestParam(required = false) String language) {
+        String languageCode = installed(language);
+        if (lines < 1) {
+            return ResponseEntity.badRequest().body(INVALID_LINES_MESSAGE);
+        }
+        return textService.summarize(id, lines, languageCode)
+                .<ResponseEntity<?>>map(summary -> ResponseEntity.ok(TextSummaryResponse.builder()
+                        .id(id)
+                        .lines(lines)
+                        .summary(summary)
+                        .build()))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
     @PutMapping("/update/{id}")
     @Operation(summary = "Atualizar texto", description = "Atualiza um texto existente pelo seu ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Texto atualizado com sucesso", content = @Content(schema = @Schema(implementation = TextResponse.class))),
-            @ApiResponse(responseCode = "400", description = "Número de linhas inválido", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "400", description = "Número de linhas inválido ou texto já existente", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "404", description = "Texto não encontrado", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "409", description = "Texto alterado por outra requisição ao mesmo tempo", content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "503", description = "Servidor sobrecarregado ou limite do cliente atingido", content = @Content(schema = @Schema(implementation = String.class)),
+                    headers = @Header(name = HttpHeaders.RETRY_AFTER, description = "Segundos sugeridos antes de tentar novamente")),
             @ApiResponse(responseCode = "500", description = "Erro interno ao atualizar o texto", content = @Content(schema = @Schema(implementation = String.class)))
     })
     public ResponseEntity<?> updateText(
             @Parameter(description = "ID do texto a ser atualizado", required = true) @PathVariable Long id,
             @Parameter(description = "Dados do texto a ser atualizado", required = true) @Valid @RequestBody TextRequest textRequest,
-            @Parameter(description = "Número de linhas", example = "2") @RequestParam(defaultValue = "2") int lines) {
+            @Parameter(description = "Número de linhas", example = "2") @RequestParam(defaultValue = "2") int lines,
+            @Parameter(description = "Algoritmo de sumarização: lead, tfidf ou textrank", example = "lead") @RequestParam(defaultValue = "lead") SummaryAlgorithm algorithm,
+            @Parameter(description = "Idioma do texto, como pt, en ou es. Sem ele, o idioma é detectado", example = "pt") @RequestParam(required = false) String language,
+            HttpServletRequest request) {
+        String languageCode = installed(language);
         try {
             if (lines < 1 || lines > 10) {
                 throw new IllegalArgumentException("O número de linhas deve estar entre 1 e 10.");
             }
             Text toText = TextMapper.toText(textRequest);
-            Text updatedText = textService.updateText(id, toText.getText(), lines);
-            return ResponseEntity.ok(TextMapper.toTextResponse(updatedText));
-        } catch (IllegalArgumentException e) {
+            try (SummarizationLimiter.Permit permit = limiter.acquire(clientKey(request))) {
+                Text updatedText = textService.updateText(id, toText.getText(), lines, algorithm, languageCode);
+                return ResponseEntity.ok().eTag(etag(updatedText)).body(TextMapper.toTextResponse(updatedText));
+            }
+        } catch (SummarizationOverloadedException e) {
+            return overloaded(e);
+        } catch (IllegalArgumentException | DuplicateTextException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (TextNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("O texto foi alterado por outra requisição. Tente novamente.");
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("Erro ao atualizar o texto: " + e.getMessage());
         }
@@ -141,15 +455,80 @@ public class TextController {
     public ResponseEntity<?> deleteText(
             @Parameter(description = "ID do texto a ser deletado", required = true) @PathVariable Long id) {
         try {
-            if(textService.findById(id).isPresent()) {
-                textService.deleteText(id);
-                return ResponseEntity.ok("Texto deletado com sucesso.");
-            }
-            else{
-                return ResponseEntity.badRequest().body("Texto não encontrado com o ID: " + id);
-            }
+            textService.deleteText(id);
+            return ResponseEntity.ok("Texto deletado com sucesso.");
+        } catch (TextNotFoundException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("Erro ao deletar o texto: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Lê o corpo como UTF-8, descomprimindo se necessário. Devolve {@code null} se o texto
+     * (já descomprimido) passar do limite, sem ler o restante.
+     */
+    private String readText(InputStream body, boolean gzip) throws IOException {
+        InputStream in = gzip ? new GZIPInputStream(body) : body;
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        long limit = maxUploadSize.toBytes();
+        for (int read; (read = in.read(buffer)) != -1; ) {
+            if (text.size() + read > limit) {
+                return null;
+            }
+            text.write(buffer, 0, read);
+        }
+        return text.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * O idioma pedido, normalizado, ou {@code null} para detectar o idioma do texto.
+     */
+    private String installed(String language) {
+        return language == null ? null : modelRegistry.requireInstalled(language);
+    }
+
+    /**
+     * Cliente para as cotas do {@link SummarizationLimiter}: o IP de origem. Cabeçalhos como
+     * {@code X-API-Key} não são validados e, se usados como chave, bastaria trocá-los a cada
+     * requisição para escapar da cota.
+     */
+    private static String clientKey(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    private static ResponseEntity<String> overloaded(SummarizationOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, OVERLOAD_RETRY_AFTER_SECONDS)
+                .body(e.getMessage());
+    }
+
+    /**
+     * ETag forte de um texto: muda sempre que o Hibernate incrementa a versão.
+     */
+    private static String etag(Text text) {
+        return "\"" + text.getId() + "-" + text.getVersion() + "\"";
+    }
+
+    /**
+     * ETag de uma página: hash dos IDs e versões dos textos e do cursor seguinte, de modo que
+     * textos novos, alterados ou removidos na faixa da página mudam o valor.
+     */
+    private static String etag(TextPage page) {
+        StringBuilder versions = new StringBuilder(page.texts().size() * 16);
+        for (Text text : page.texts()) {
+            versions.append(text.getId()).append(':').append(text.getVersion()).append(',');
+        }
+        versions.append(page.nextCursor());
+        return "\"" + ContentHash.sha256Hex(versions.toString()).substring(0, 32) + "\"";
+    }
+
+    private static boolean notModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+}
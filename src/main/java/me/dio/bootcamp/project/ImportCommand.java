@@ -0,0 +1,70 @@
+package me.dio.bootcamp.project;
+
+import lombok.extern.slf4j.Slf4j;
+import me.dio.bootcamp.project.service.ImportFormat;
+import me.dio.bootcamp.project.service.ImportReport;
+import me.dio.bootcamp.project.service.TextImportService;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Importação em massa pela linha de comando. Com {@code --summarizer.import.file=<arquivo>} a aplicação
+ * importa o arquivo, registra o andamento a cada lote e encerra, com código de saída 1 se algum registro
+ * falhou. Rodar de novo com o mesmo arquivo continua do último checkpoint.
+ * <p>
+ * O arquivo é conferido na execução, e não com {@code @ConditionalOnProperty}: com
+ * {@code spring.aot.enabled} as condições ficam fixas no build. Quem encerra a aplicação é o
+ * {@link Application#main}, que consulta {@link #isEnabled()}.
+ */
+@Slf4j
+@Component
+public class ImportCommand implements ApplicationRunner, ExitCodeGenerator {
+
+    private final TextImportService importService;
+    private final Path file;
+    private final int lines;
+    private final SummaryAlgorithm algorithm;
+    private volatile int exitCode;
+
+    public ImportCommand(TextImportService importService,
+                         @Value("${summarizer.import.file:}") String file,
+                         @Value("${summarizer.import.lines:2}") int lines,
+                         @Value("${summarizer.import.algorithm:lead}") String algorithm) {
+        this.importService = importService;
+        this.file = file.isBlank() ? null : Path.of(file);
+        this.lines = lines;
+        this.algorithm = SummaryAlgorithm.from(algorithm);
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!isEnabled()) {
+            return;
+        }
+        ImportReport report = importService.importFile(file, ImportFormat.of(file), lines, algorithm, this::log);
+        log.info("Importação concluída em {}s.", report.elapsed().toSeconds());
+        log(report);
+        exitCode = report.failed() > 0 ? 1 : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private void log(ImportReport report) {
+        log.info(String.format(Locale.ROOT, "%5.1f%% | importados: %d, duplicados: %d, falhas: %d | %.0f registros/s",
+                report.percent(), report.imported(), report.duplicates(), report.failed(), report.rowsPerSecond()));
+    }
+}
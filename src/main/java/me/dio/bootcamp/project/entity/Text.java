@@ -5,20 +5,44 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Text.CACHE_REGION)
+@DynamicUpdate
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class Text {
 
+    public static final String CACHE_REGION = "text";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "text_seq")
+    @SequenceGenerator(name = "text_seq", sequenceName = "text_seq", allocationSize = 50)
     private Long id;
 
     private String text;
 
     @Column(name="text_reduced")
     private String textReduced;
+
+    @Column(name="content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * Derivado do texto e gravado no primeiro resumo: não incrementa a versão, para que uma leitura
+     * não mude o ETag nem faça um PUT concorrente falhar.
+     */
+    @OptimisticLock(excluded = true)
+    @Column(name="sentence_offsets")
+    private byte[] sentenceOffsets;
+
+    @Version
+    private Long version;
 }
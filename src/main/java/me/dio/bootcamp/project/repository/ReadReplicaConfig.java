@@ -0,0 +1,88 @@
+package me.dio.bootcamp.project.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Com {@code summarizer.datasource.replica.url} definido, as transações
+ * {@code @Transactional(readOnly = true)} leem da réplica e o restante vai para o primário.
+ * <p>
+ * Cada banco tem o próprio pool Hikari ({@code primary} e {@code replica}), com métricas separadas em
+ * {@code hikaricp.connections{pool=...}}. O {@link LazyConnectionDataSourceProxy} só abre a conexão no
+ * primeiro comando, quando a transação já marcou se é somente leitura.
+ * <p>
+ * A URL é lida na subida, e não com {@code @ConditionalOnProperty}: a imagem roda com
+ * {@code spring.aot.enabled}, que fixa as condições no build, e a URL só chega pelo ambiente. Por isso
+ * os beans existem sempre, e sem a URL o {@link ReadReplicaDataSource} só entrega o primário.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReadReplicaConfig {
+
+    static final String REPLICA_URL = "summarizer.datasource.replica.url";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaDataSource readReplicaDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                       DataSourceProperties properties,
+                                                       Environment environment,
+                                                       @Value("${summarizer.datasource.replica.max-lag:5s}") Duration maxLag,
+                                                       @Value("${summarizer.datasource.replica.check-interval:5s}") Duration checkInterval,
+                                                       @Value("${summarizer.datasource.replica.lag-query:}") String lagQuery,
+                                                       MeterRegistry meterRegistry) {
+        String url = environment.getProperty(REPLICA_URL, "");
+        HikariDataSource replica = url.isBlank() ? null : replicaDataSource(properties, url, environment, meterRegistry);
+        return new ReadReplicaDataSource(primary, replica, maxLag, checkInterval,
+                lagQuery.isEmpty() ? ReadReplicaDataSource.POSTGRES_LAG_QUERY : lagQuery, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReadReplicaDataSource readOnly) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        if (readOnly.isEnabled()) {
+            dataSource.setReadOnlyDataSource(readOnly);
+        }
+        return dataSource;
+    }
+
+    private static HikariDataSource replicaDataSource(DataSourceProperties properties, String url,
+                                                      Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .build();
+        String username = environment.getProperty("summarizer.datasource.replica.username", "");
+        if (!username.isEmpty()) {
+            dataSource.setUsername(username);
+            dataSource.setPassword(environment.getProperty("summarizer.datasource.replica.password", ""));
+        }
+        // Não é um bean: as propriedades e as métricas do pool são ligadas aqui
+        Binder.get(environment).bind("summarizer.datasource.replica.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMetricRegistry(meterRegistry);
+        // A réplica pode estar fora do ar na subida; as leituras vão para o primário até ela voltar
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,154 @@
+package me.dio.bootcamp.project.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Destino das transações somente leitura: entrega conexões da réplica enquanto ela responde e o
+ * atraso de replicação fica abaixo de {@code maxLag}; fora disso, as leituras voltam para o primário.
+ * <p>
+ * A réplica é verificada a cada {@code checkInterval} com {@code lagQuery}, que deve devolver o
+ * atraso em segundos. Uma falha ao abrir conexão também tira a réplica de uso até a próxima verificação.
+ * <p>
+ * Sem réplica ({@code replica} nulo) todas as conexões vêm do primário. A réplica passa a pertencer a
+ * este {@code DataSource} e é fechada com ele.
+ */
+public class ReadReplicaDataSource extends AbstractDataSource implements DisposableBean {
+
+    /**
+     * Atraso da réplica no PostgreSQL. Sem WAL pendente o atraso é zero, mesmo que o primário esteja
+     * parado há tempo; no primário (fora de recuperação) também é zero.
+     */
+    public static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final ScheduledExecutorService checker;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private volatile boolean available;
+    private volatile double lagSeconds;
+
+    public ReadReplicaDataSource(DataSource primary, DataSource replica, Duration maxLag, Duration checkInterval,
+                                 String lagQuery, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+
+        Gauge.builder("summarizer.datasource.replica.available", this, r -> r.isAvailable() ? 1 : 0)
+                .description("1 quando as leituras estão indo para a réplica")
+                .register(meterRegistry);
+        Gauge.builder("summarizer.datasource.replica.lag", this, ReadReplicaDataSource::getLagSeconds)
+                .description("Atraso de replicação medido na última verificação")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.replicaReads = reads(meterRegistry, "replica");
+        this.primaryReads = reads(meterRegistry, "primary");
+
+        if (replica == null) {
+            this.checker = null;
+            return;
+        }
+        check();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("summarizer-replica-check-");
+        threadFactory.setDaemon(true);
+        this.checker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.checker.scheduleWithFixedDelay(this::check, checkInterval.toMillis(), checkInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    public boolean isEnabled() {
+        return replica != null;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    DataSource replica() {
+        return replica;
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        if (available) {
+            try {
+                Connection connection = connector.connect(replica);
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                available = false;
+            }
+        }
+        primaryReads.increment();
+        return connector.connect(primary);
+    }
+
+    void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            result.next();
+            lagSeconds = result.getDouble(1);
+            available = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (SQLException | RuntimeException e) {
+            available = false;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("summarizer.datasource.reads")
+                .description("Conexões entregues a transações somente leitura, por destino")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package me.dio.bootcamp.project.repository;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de uma chamada a um repositório, com o tempo total da chamada (banco, Hibernate e cache).
+ */
+@Name("me.dio.summarizer.RepositoryCall")
+@Label("Chamada ao repositório")
+@Category({"Summarizer", "Persistência"})
+@Description("Chamada a um método de repositório, do início ao retorno")
+class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Repositório")
+    String repository;
+
+    @Label("Método")
+    String method;
+
+    @Label("Sucesso")
+    boolean success;
+
+    /**
+     * Preenche os campos e grava o evento, se a gravação estiver ligada.
+     */
+    void finish(String repository, String method, boolean success) {
+        if (shouldCommit()) {
+            this.repository = repository;
+            this.method = method;
+            this.success = success;
+            commit();
+        }
+    }
+}
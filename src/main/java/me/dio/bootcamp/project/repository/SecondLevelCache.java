@@ -0,0 +1,64 @@
+package me.dio.bootcamp.project.repository;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import me.dio.bootcamp.project.entity.Text;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Cache de segundo nível do Hibernate, em memória (JCache sobre Caffeine), para as buscas de
+ * {@link Text} por id. A região {@value Text#CACHE_REGION} é limitada em número de entradas e expira
+ * depois de {@code ttl}; as escritas pela entidade atualizam ou removem só a entrada afetada.
+ * <p>
+ * Acertos e faltas saem em {@code hibernate.second.level.cache.requests} no actuator.
+ */
+@Component
+public class SecondLevelCache implements HibernatePropertiesCustomizer {
+
+    private final long maxSize;
+    private final Duration ttl;
+
+    public SecondLevelCache(@Value("${summarizer.text-cache.max-size:10000}") long maxSize,
+                            @Value("${summarizer.text-cache.ttl:10m}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+        hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager());
+        hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+    }
+
+    /**
+     * Um gerenciador próprio, com URI única, a cada {@code EntityManagerFactory}. O padrão do provedor
+     * é compartilhado pela JVM inteira, e o Hibernate fecha o gerenciador ao encerrar: com ele, fechar
+     * um contexto derrubaria o cache dos outros e um contexto novo herdaria a região com outro limite.
+     */
+    private CacheManager cacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("summarizer-second-level-cache-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        cacheManager.createCache(Text.CACHE_REGION, configuration);
+        return cacheManager;
+    }
+}
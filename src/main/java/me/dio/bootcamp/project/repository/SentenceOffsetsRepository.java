@@ -0,0 +1,10 @@
+package me.dio.bootcamp.project.repository;
+
+public interface SentenceOffsetsRepository {
+
+    /**
+     * Grava as fronteiras calculadas a partir de {@code text}, desde que o texto não tenha sido
+     * alterado nesse meio tempo. Devolve 1 se gravou e 0 caso contrário.
+     */
+    int saveSentenceOffsets(Long id, String text, byte[] offsets);
+}
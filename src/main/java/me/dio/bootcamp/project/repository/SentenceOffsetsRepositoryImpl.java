@@ -0,0 +1,30 @@
+package me.dio.bootcamp.project.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.dio.bootcamp.project.entity.Text;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Grava as fronteiras pela entidade, e não com um {@code UPDATE} em massa: assim o Hibernate
+ * atualiza só esta entrada do cache de segundo nível em vez de esvaziar a região inteira.
+ * <p>
+ * As fronteiras não incrementam a versão, mas o {@code UPDATE} ainda a confere: se o texto foi
+ * alterado nesse meio tempo, a gravação falha com conflito de versão e o chamador a descarta.
+ */
+class SentenceOffsetsRepositoryImpl implements SentenceOffsetsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int saveSentenceOffsets(Long id, String text, byte[] offsets) {
+        Text stored = entityManager.find(Text.class, id);
+        if (stored == null || stored.getSentenceOffsets() != null || !stored.getText().equals(text)) {
+            return 0;
+        }
+        stored.setSentenceOffsets(offsets);
+        return 1;
+    }
+}
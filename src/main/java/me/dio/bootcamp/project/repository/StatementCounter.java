@@ -0,0 +1,74 @@
+package me.dio.bootcamp.project.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate, por tipo, na métrica {@code summarizer.db.statements}.
+ * Um lote de inserts conta uma vez só, como a ida ao banco. Os testes de orçamento de consultas
+ * usam o mesmo contador para falhar quando um endpoint passa a fazer mais idas ao banco.
+ */
+@Component
+public class StatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final Counter select;
+    private final Counter insert;
+    private final Counter update;
+    private final Counter delete;
+    private final Counter other;
+
+    public StatementCounter(MeterRegistry meterRegistry) {
+        this.select = counter(meterRegistry, "select");
+        this.insert = counter(meterRegistry, "insert");
+        this.update = counter(meterRegistry, "update");
+        this.delete = counter(meterRegistry, "delete");
+        this.other = counter(meterRegistry, "other");
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counterFor(sql).increment();
+        return sql;
+    }
+
+    /**
+     * Total de comandos preparados desde a criação do contador.
+     */
+    public long total() {
+        return (long) (select.count() + insert.count() + update.count() + delete.count() + other.count());
+    }
+
+    private Counter counterFor(String sql) {
+        String statement = sql.stripLeading();
+        int end = 0;
+        while (end < statement.length() && Character.isLetter(statement.charAt(end))) {
+            end++;
+        }
+        return switch (statement.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> select;
+            case "insert" -> insert;
+            case "update" -> update;
+            case "delete" -> delete;
+            default -> other;
+        };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("summarizer.db.statements")
+                .description("Comandos SQL enviados ao banco pelo Hibernate")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
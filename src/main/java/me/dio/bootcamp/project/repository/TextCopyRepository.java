@@ -0,0 +1,97 @@
+package me.dio.bootcamp.project.repository;
+
+import me.dio.bootcamp.project.entity.Text;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Gravação em massa com {@code COPY} do PostgreSQL. Cada lote vai para uma tabela temporária e de lá
+ * para {@code text} com {@code ON CONFLICT DO NOTHING}, então textos repetidos (no lote, no banco ou
+ * reenviados depois de uma retomada) são ignorados em vez de derrubar o lote.
+ * <p>
+ * Os ids vêm de {@code nextval('text_seq')}, a mesma sequência do Hibernate. Como ela avança de 50 em
+ * 50, cada linha ocupa um bloco inteiro, mas nunca colide com os ids que a aplicação reserva.
+ */
+@Repository
+public class TextCopyRepository {
+
+    private static final String CREATE_STAGING =
+            "CREATE TEMPORARY TABLE text_import (text TEXT, text_reduced TEXT, content_hash VARCHAR(64)) ON COMMIT DROP";
+    private static final String COPY = "COPY text_import (text, text_reduced, content_hash) FROM STDIN (FORMAT csv)";
+    private static final String INSERT = """
+            INSERT INTO text (id, text, text_reduced, content_hash)
+            SELECT nextval('text_seq'), text, text_reduced, content_hash FROM text_import
+            ON CONFLICT (content_hash) DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TextCopyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Grava os textos e devolve quantos foram inseridos; os demais já existiam.
+     */
+    @Transactional
+    public int copy(List<Text> texts) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            int inserted = insert(texts);
+            success = true;
+            return inserted;
+        } finally {
+            event.finish("TextCopyRepository", "copy", success);
+        }
+    }
+
+    private int insert(List<Text> texts) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+                CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY);
+                try {
+                    StringBuilder row = new StringBuilder();
+                    for (Text text : texts) {
+                        row.setLength(0);
+                        appendCsv(row, text.getText()).append(',');
+                        appendCsv(row, text.getTextReduced()).append(',');
+                        appendCsv(row, text.getContentHash()).append('\n');
+                        byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                        copy.writeToCopy(bytes, 0, bytes.length);
+                    }
+                    copy.endCopy();
+                } finally {
+                    if (copy.isActive()) {
+                        copy.cancelCopy();
+                    }
+                }
+                return statement.executeUpdate(INSERT);
+            }
+        });
+    }
+
+    private static StringBuilder appendCsv(StringBuilder row, String value) {
+        if (value == null) {
+            return row;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        return row.append('"');
+    }
+}
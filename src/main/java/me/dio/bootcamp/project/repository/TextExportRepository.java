@@ -0,0 +1,65 @@
+package me.dio.bootcamp.project.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Leitura da tabela {@code text} para o export, direto do {@link ResultSet} e sem criar entidades.
+ * Dentro da transação somente leitura o driver do PostgreSQL usa um cursor no servidor e traz
+ * {@code fetch-size} linhas por vez, então a memória não depende do tamanho da tabela.
+ */
+@Repository
+public class TextExportRepository {
+
+    private static final String SELECT_AFTER = "SELECT id, text, text_reduced FROM text WHERE id > ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public TextExportRepository(JdbcTemplate jdbcTemplate, @Value("${summarizer.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachAfter(long sinceId, RowHandler handler) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            query(sinceId, handler);
+            success = true;
+        } finally {
+            event.finish("TextExportRepository", "forEachAfter", success);
+        }
+    }
+
+    private void query(long sinceId, RowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_AFTER,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, sinceId);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            try {
+                handler.row(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(long id, String text, String textReduced) throws IOException;
+    }
+}
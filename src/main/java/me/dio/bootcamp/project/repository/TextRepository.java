@@ -1,14 +1,48 @@
 package me.dio.bootcamp.project.repository;
 
+import jakarta.persistence.QueryHint;
 import me.dio.bootcamp.project.entity.Text;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface TextRepository extends JpaRepository<Text, Long> {
-    List<Text> findByTextContainingIgnoreCase(String text);
+public interface TextRepository extends JpaRepository<Text, Long>, SentenceOffsetsRepository {
+    /**
+     * Fora de uma transação somente leitura, busca no primário: é a leitura que antecede atualizar,
+     * deletar ou gravar as fronteiras de sentenças, e não pode ver uma réplica atrasada.
+     */
+    @Override
+    @Transactional
+    Optional<Text> findById(Long id);
+
+    /**
+     * Busca por "contém", sem diferenciar maiúsculas de minúsculas, usando o índice trigram
+     * {@code text_text_trgm_idx}. O padrão já deve vir com {@code %}, {@code _} e {@code \} escapados.
+     * <p>
+     * Esta busca e a paginação não colocam o que leem no cache de segundo nível: varrer muitos textos
+     * de uma vez expulsaria da região os que são buscados por id.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query(value = "SELECT * FROM text WHERE text ILIKE '%' || :pattern || '%' ESCAPE '\\'", nativeQuery = true)
+    List<Text> searchByContent(@Param("pattern") String pattern);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    List<Text> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    boolean existsByContentHash(String contentHash);
+
+    @Query("select t.contentHash from Text t where t.contentHash in :contentHashes")
+    Set<String> findExistingContentHashes(@Param("contentHashes") Collection<String> contentHashes);
 
 }
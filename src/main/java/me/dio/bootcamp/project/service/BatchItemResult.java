@@ -0,0 +1,24 @@
+package me.dio.bootcamp.project.service;
+
+import me.dio.bootcamp.project.entity.Text;
+
+public record BatchItemResult(int index, Status status, Text text, String message) {
+
+    public enum Status {
+        SAVED,
+        DUPLICATE,
+        FAILED
+    }
+
+    public static BatchItemResult saved(int index, Text text) {
+        return new BatchItemResult(index, Status.SAVED, text, null);
+    }
+
+    public static BatchItemResult duplicate(int index) {
+        return new BatchItemResult(index, Status.DUPLICATE, null, "Texto já existe no banco de dados.");
+    }
+
+    public static BatchItemResult failed(int index, String message) {
+        return new BatchItemResult(index, Status.FAILED, null, message);
+    }
+}
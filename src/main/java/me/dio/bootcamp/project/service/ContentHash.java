@@ -0,0 +1,38 @@
+package me.dio.bootcamp.project.service;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Hash SHA-256 do conteúdo normalizado de um texto (espaços colapsados, sem espaços nas
+ * pontas e em minúsculas). A migração V4 preenche os hashes antigos com esta classe, então a
+ * normalização só existe aqui; mudá-la exige uma nova migração que recalcule os hashes.
+ */
+@UtilityClass
+public class ContentHash {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static String of(String text) {
+        return sha256Hex(normalize(text));
+    }
+
+    public static String normalize(String text) {
+        return WHITESPACE.matcher(text).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+}
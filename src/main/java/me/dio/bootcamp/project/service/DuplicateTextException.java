@@ -0,0 +1,8 @@
+package me.dio.bootcamp.project.service;
+
+public class DuplicateTextException extends RuntimeException {
+
+    public DuplicateTextException() {
+        super("Texto já existe no banco de dados.");
+    }
+}
@@ -0,0 +1,37 @@
+package me.dio.bootcamp.project.service;
+
+import java.util.Locale;
+
+/**
+ * Formatos do export em massa: NDJSON, com os mesmos campos de {@code TextResponse}, ou CSV com
+ * cabeçalho.
+ */
+public enum ExportFormat {
+    NDJSON(ExportFormat.NDJSON_VALUE),
+    CSV(ExportFormat.CSV_VALUE);
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv;charset=UTF-8";
+
+    private final String mediaType;
+
+    ExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato inválido: " + value + ". Use ndjson ou csv.");
+        }
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,24 @@
+package me.dio.bootcamp.project.service;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos aceitos pela importação em massa. Em JSONL, cada linha é um objeto com o campo
+ * {@code text}; em CSV, a primeira linha é o cabeçalho e deve ter uma coluna {@code text}.
+ */
+public enum ImportFormat {
+    JSONL,
+    CSV;
+
+    public static ImportFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException("Formato de importação não reconhecido: " + file.getFileName());
+    }
+}
@@ -0,0 +1,20 @@
+package me.dio.bootcamp.project.service;
+
+import java.time.Duration;
+
+/**
+ * Andamento de uma importação. Os totais incluem o que foi importado antes de uma retomada;
+ * {@code processed} e {@code elapsed} contam só a execução atual.
+ */
+public record ImportReport(long imported, long duplicates, long failed,
+                           long position, long size, long processed, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? 0 : processed * 1000.0 / millis;
+    }
+
+    public double percent() {
+        return size == 0 ? 100 : 100.0 * position / size;
+    }
+}
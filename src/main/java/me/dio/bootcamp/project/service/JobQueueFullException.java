@@ -0,0 +1,8 @@
+package me.dio.bootcamp.project.service;
+
+public class JobQueueFullException extends RuntimeException {
+
+    public JobQueueFullException() {
+        super("Fila de sumarização cheia. Tente novamente mais tarde.");
+    }
+}
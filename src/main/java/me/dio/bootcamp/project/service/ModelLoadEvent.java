@@ -0,0 +1,22 @@
+package me.dio.bootcamp.project.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR do carregamento do modelo de sentenças e da criação dos detectores do pool.
+ */
+@Name("me.dio.summarizer.ModelLoad")
+@Label("Carga do modelo")
+@Category({"Summarizer", "Modelo"})
+@Description("Carregamento do modelo de detecção de sentenças e criação dos detectores do pool")
+class ModelLoadEvent extends jdk.jfr.Event {
+
+    @Label("Detectores")
+    int detectors;
+
+    @Label("Sucesso")
+    boolean success;
+}
@@ -0,0 +1,119 @@
+package me.dio.bootcamp.project.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lê um arquivo registro a registro com um buffer de tamanho fixo, guardando a posição em bytes
+ * do fim do último registro para que a leitura possa ser retomada dali. Um registro termina em
+ * {@code \n}; com {@code quoted}, quebras de linha entre aspas (CSV) fazem parte do registro.
+ * <p>
+ * Registros maiores que {@code maxRecordBytes} são descartados sem ocupar memória: {@link #record()}
+ * devolve {@code null} e a leitura segue no próximo.
+ */
+final class RecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int maxRecordBytes;
+    private final boolean quoted;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private byte[] bytes = new byte[1024];
+    private int length;
+    private boolean oversized;
+    private long position;
+    private String record;
+
+    RecordReader(FileChannel channel, long position, int maxRecordBytes, boolean quoted) throws IOException {
+        this.channel = channel;
+        this.position = position;
+        this.maxRecordBytes = maxRecordBytes;
+        this.quoted = quoted;
+        channel.position(position);
+        buffer.flip();
+    }
+
+    /**
+     * Avança para o próximo registro não vazio; {@code false} no fim do arquivo.
+     */
+    boolean next() throws IOException {
+        while (true) {
+            long start = position;
+            length = 0;
+            oversized = false;
+            boolean inQuotes = false;
+            boolean found = false;
+            while (!found) {
+                if (!buffer.hasRemaining()) {
+                    buffer.clear();
+                    int read = channel.read(buffer);
+                    buffer.flip();
+                    if (read <= 0) {
+                        break;
+                    }
+                }
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    position++;
+                    if (b == '\n' && !inQuotes) {
+                        found = true;
+                        break;
+                    }
+                    if (quoted && b == '"') {
+                        inQuotes = !inQuotes;
+                    }
+                    append(b);
+                }
+            }
+            if (!found && length == 0 && !oversized) {
+                record = null;
+                return false;
+            }
+            if (length > 0 && bytes[length - 1] == '\r') {
+                length--;
+            }
+            int offset = start == 0 && startsWithBom() ? 3 : 0;
+            record = oversized ? null : new String(bytes, offset, length - offset, StandardCharsets.UTF_8);
+            if (oversized || !record.isBlank()) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * O registro atual, ou {@code null} se ele passou do tamanho máximo.
+     */
+    String record() {
+        return record;
+    }
+
+    /**
+     * Posição em bytes logo depois do registro atual.
+     */
+    long position() {
+        return position;
+    }
+
+    private void append(byte b) {
+        if (oversized) {
+            return;
+        }
+        if (length == maxRecordBytes) {
+            oversized = true;
+            length = 0;
+            return;
+        }
+        if (length == bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.min(maxRecordBytes, length * 2));
+        }
+        bytes[length++] = b;
+    }
+
+    private boolean startsWithBom() {
+        return length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF;
+    }
+}
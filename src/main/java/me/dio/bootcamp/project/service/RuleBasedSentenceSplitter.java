@@ -0,0 +1,287 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import opennlp.tools.util.Span;
+
+import java.util.Arrays;
+
+/**
+ * Divisor de sentenças por regras para português, uma alternativa rápida ao {@link SentenceDetectorPool}
+ * em textos bem pontuados. Cada ponto, exclamação, interrogação ou reticências seguido de espaço é um
+ * candidato a fim de sentença, decidido pela palavra antes dele e pelo caractere que abre a próxima.
+ * <p>
+ * Os casos que as regras não resolvem com segurança são ambíguos: uma abreviação como "etc." ou uma
+ * inicial seguida de maiúscula, reticências antes de maiúscula, ou um ponto seguido de minúscula
+ * depois de uma palavra desconhecida. Se o texto tiver um caso ambíguo antes de chegar às sentenças
+ * pedidas, ele é dividido inteiro pelo {@code fallback}, normalmente o pool do modelo.
+ * <p>
+ * O texto é lido direto do {@link CharSequence}, sem expressões regulares nem cópias; só as
+ * sentenças devolvidas são alocadas.
+ */
+public final class RuleBasedSentenceSplitter {
+
+    /**
+     * As abreviações e a pontuação tratadas são as do português.
+     */
+    public static final String LANGUAGE = "pt";
+
+    /**
+     * Abreviações de tratamento e títulos, que vêm antes de um nome e não terminam a sentença.
+     */
+    private static final String[][] TITLES = byLength(
+            "sr", "sra", "srs", "sras", "srta", "dr", "dra", "drs", "dras", "prof", "profa", "profs",
+            "exmo", "exma", "ilmo", "ilma", "exa", "sto", "sta", "pe", "eng", "arq", "gen", "cel", "ten", "sgt",
+            "av", "pça", "rod");
+
+    /**
+     * Abreviações que quase sempre continuam a sentença, mas podem terminá-la ("... e etc. Depois").
+     */
+    private static final String[][] ABBREVIATIONS = byLength(
+            "etc", "pág", "págs", "pag", "pags", "cap", "caps", "art", "arts", "inc", "fig", "figs", "vol", "vols",
+            "obs", "ex", "núm", "num", "nº", "nos", "tel", "ltda", "cia", "aprox", "séc", "sec", "ed", "eds",
+            "org", "orgs", "coord", "trad", "op", "cit", "ibid", "id", "máx", "mín", "pp", "jan", "fev", "abr",
+            "jun", "jul", "ago", "set", "nov");
+
+    private enum Decision { BOUNDARY, CONTINUE, AMBIGUOUS }
+
+    private final Counter ruleTexts;
+    private final Counter fallbackTexts;
+
+    public RuleBasedSentenceSplitter(MeterRegistry meterRegistry) {
+        this.ruleTexts = texts(meterRegistry, "rules");
+        this.fallbackTexts = texts(meterRegistry, "fallback");
+    }
+
+    /**
+     * Um divisor que usa as regras e, nos textos ambíguos, {@code fallback}.
+     */
+    public SentenceSplitter withFallback(SentenceSplitter fallback) {
+        return new SentenceSplitter() {
+            @Override
+            public String[] sentDetect(String text) {
+                Boundaries boundaries = split(text, Integer.MAX_VALUE, "rules.sentDetect");
+                return boundaries != null ? boundaries.sentences(text) : fallback.sentDetect(text);
+            }
+
+            @Override
+            public Span[] sentPosDetect(String text) {
+                Boundaries boundaries = split(text, Integer.MAX_VALUE, "rules.sentPosDetect");
+                return boundaries != null ? boundaries.spans() : fallback.sentPosDetect(text);
+            }
+
+            @Override
+            public String[] firstSentences(CharSequence text, int count) {
+                Boundaries boundaries = split(text, count, "rules.firstSentences");
+                return boundaries != null ? boundaries.sentences(text) : fallback.firstSentences(text, count);
+            }
+        };
+    }
+
+    private Boundaries split(CharSequence text, int limit, String operation) {
+        SentenceDetectionEvent event = new SentenceDetectionEvent();
+        event.begin();
+        Boundaries boundaries = boundaries(text, limit);
+        if (boundaries == null) {
+            fallbackTexts.increment();
+            return null;
+        }
+        ruleTexts.increment();
+        SentenceDetectorPool.commit(event, operation, text.length(), boundaries.count);
+        return boundaries;
+    }
+
+    /**
+     * Os limites das primeiras {@code limit} sentenças, ou {@code null} se houver um caso ambíguo antes delas.
+     */
+    static Boundaries boundaries(CharSequence text, int limit) {
+        int length = text.length();
+        Boundaries boundaries = new Boundaries();
+        int start = skipWhitespace(text, 0);
+        int i = start;
+        while (i < length && boundaries.count < limit) {
+            if (!isTerminator(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = i + 1;
+            while (end < length && isTerminator(text.charAt(end))) {
+                end++;
+            }
+            int punctuationEnd = end;
+            while (end < length && isCloser(text.charAt(end))) {
+                end++;
+            }
+            if (end < length && !Character.isWhitespace(text.charAt(end))) {
+                // "3.5", "site.com.br", "S.A": pontuação dentro de uma palavra
+                i = end;
+                continue;
+            }
+            int next = skipWhitespace(text, end);
+            Decision decision = next == length ? Decision.BOUNDARY : decide(text, start, i, punctuationEnd, next);
+            if (decision == Decision.AMBIGUOUS) {
+                return null;
+            }
+            if (decision == Decision.BOUNDARY) {
+                boundaries.add(start, end);
+                start = next;
+            }
+            i = next;
+        }
+        if (boundaries.count < limit) {
+            int end = length;
+            while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+            if (end > start) {
+                boundaries.add(start, end);
+            }
+        }
+        return boundaries;
+    }
+
+    /**
+     * Decide o candidato em {@code text[from, to)}, a pontuação, com a próxima sentença começando em {@code next}.
+     */
+    private static Decision decide(CharSequence text, int sentenceStart, int from, int to, int next) {
+        char following = text.charAt(next);
+        boolean opens = Character.isUpperCase(following) || Character.isDigit(following) || isOpener(following);
+        boolean lower = Character.isLowerCase(following);
+
+        boolean period = true;
+        for (int p = from; p < to; p++) {
+            char c = text.charAt(p);
+            if (c == '?' || c == '!') {
+                return opens ? Decision.BOUNDARY : Decision.AMBIGUOUS;
+            }
+            period &= c == '.';
+        }
+        if (!period || to - from > 1) {
+            // Reticências: "Bem... vamos" continua; antes de maiúscula, depende do contexto
+            return lower ? Decision.CONTINUE : Decision.AMBIGUOUS;
+        }
+
+        int wordStart = from;
+        int segment = 0;
+        int longestSegment = 0;
+        while (wordStart > sentenceStart) {
+            char c = text.charAt(wordStart - 1);
+            if (c == '.') {
+                segment = 0;
+            } else if (Character.isLetter(c)) {
+                longestSegment = Math.max(longestSegment, ++segment);
+            } else {
+                break;
+            }
+            wordStart--;
+        }
+        int wordLength = from - wordStart;
+        boolean afterDigit = wordStart > 0 && Character.isDigit(text.charAt(wordStart - 1));
+        if (wordLength == 0 || afterDigit || longestSegment > 1 && wordLength > longestSegment) {
+            // "em 2020.", "(ver abaixo).", "às 10h." ou "site.com.br."
+            return opens ? Decision.BOUNDARY : Decision.AMBIGUOUS;
+        }
+        if (longestSegment == 1) {
+            // Iniciais ("J. Silva") e siglas com pontos ("S.A.", "a.C.")
+            return lower || Character.isDigit(following) ? Decision.CONTINUE : Decision.AMBIGUOUS;
+        }
+        if (matches(TITLES, text, wordStart, wordLength)) {
+            return Decision.CONTINUE;
+        }
+        if (matches(ABBREVIATIONS, text, wordStart, wordLength)) {
+            return lower || Character.isDigit(following) ? Decision.CONTINUE : Decision.AMBIGUOUS;
+        }
+        return opens ? Decision.BOUNDARY : Decision.AMBIGUOUS;
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…';
+    }
+
+    private static boolean isCloser(char c) {
+        return c == '"' || c == '\'' || c == '”' || c == '’' || c == '»' || c == ')' || c == ']';
+    }
+
+    private static boolean isOpener(char c) {
+        return c == '"' || c == '\'' || c == '“' || c == '‘' || c == '«' || c == '(' || c == '['
+                || c == '—' || c == '–' || c == '-' || c == '¿' || c == '¡';
+    }
+
+    private static int skipWhitespace(CharSequence text, int from) {
+        while (from < text.length() && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean matches(String[][] words, CharSequence text, int start, int length) {
+        if (length >= words.length) {
+            return false;
+        }
+        for (String word : words[length]) {
+            int k = 0;
+            while (k < length && Character.toLowerCase(text.charAt(start + k)) == word.charAt(k)) {
+                k++;
+            }
+            if (k == length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[][] byLength(String... words) {
+        int maxLength = Arrays.stream(words).mapToInt(String::length).max().orElse(0);
+        String[][] byLength = new String[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            int size = length;
+            byLength[length] = Arrays.stream(words).filter(word -> word.length() == size).toArray(String[]::new);
+        }
+        return byLength;
+    }
+
+    private static Counter texts(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("summarizer.splitter.texts")
+                .description("Textos divididos pelas regras ou, nos casos ambíguos, pelo modelo")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Início e fim de cada sentença, intercalados em um único vetor.
+     */
+    static final class Boundaries {
+
+        private int[] offsets = new int[32];
+        private int count;
+
+        private void add(int start, int end) {
+            if (2 * count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[2 * count] = start;
+            offsets[2 * count + 1] = end;
+            count++;
+        }
+
+        int count() {
+            return count;
+        }
+
+        String[] sentences(CharSequence text) {
+            String[] sentences = new String[count];
+            for (int s = 0; s < count; s++) {
+                sentences[s] = text.subSequence(offsets[2 * s], offsets[2 * s + 1]).toString();
+            }
+            return sentences;
+        }
+
+        Span[] spans() {
+            Span[] spans = new Span[count];
+            for (int s = 0; s < count; s++) {
+                spans[s] = new Span(offsets[2 * s], offsets[2 * s + 1]);
+            }
+            return spans;
+        }
+    }
+}
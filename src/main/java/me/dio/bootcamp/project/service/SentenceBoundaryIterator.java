@@ -0,0 +1,81 @@
+package me.dio.bootcamp.project.service;
+
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.util.Span;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Percorre as sentenças de um texto em janelas, detectando só o necessário para a próxima
+ * sentença. A última sentença de cada janela pode ter sido cortada, então ela é descartada
+ * e a janela seguinte começa nela; se a janela não contém nenhuma fronteira, ela dobra de tamanho.
+ * <p>
+ * Quem precisa apenas das primeiras sentenças paga pelo tamanho delas, não do documento.
+ * Não é thread-safe, assim como o detector que recebe.
+ */
+public class SentenceBoundaryIterator implements Iterator<Span> {
+
+    static final int INITIAL_WINDOW = 512;
+
+    private final SentenceDetectorME detector;
+    private final CharSequence text;
+    private final int initialWindow;
+
+    private Span[] buffered = new Span[0];
+    private int next;
+    private int offset;
+
+    public SentenceBoundaryIterator(SentenceDetectorME detector, CharSequence text) {
+        this(detector, text, INITIAL_WINDOW);
+    }
+
+    SentenceBoundaryIterator(SentenceDetectorME detector, CharSequence text, int initialWindow) {
+        this.detector = detector;
+        this.text = text;
+        this.initialWindow = initialWindow;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == buffered.length && offset < text.length()) {
+            advance();
+        }
+        return next < buffered.length;
+    }
+
+    @Override
+    public Span next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffered[next++];
+    }
+
+    private void advance() {
+        for (int window = initialWindow; ; window *= 2) {
+            int end = (int) Math.min(text.length(), (long) offset + window);
+            Span[] spans = detector.sentPosDetect(CharBuffer.wrap(text, offset, end));
+            if (end == text.length()) {
+                buffer(spans, spans.length);
+                offset = end;
+                return;
+            }
+            if (spans.length >= 2) {
+                int lastStart = offset + spans[spans.length - 1].getStart();
+                buffer(spans, spans.length - 1);
+                offset = lastStart;
+                return;
+            }
+        }
+    }
+
+    private void buffer(Span[] spans, int count) {
+        buffered = new Span[count];
+        for (int i = 0; i < count; i++) {
+            buffered[i] = new Span(spans[i].getStart() + offset, spans[i].getEnd() + offset);
+        }
+        next = 0;
+    }
+}
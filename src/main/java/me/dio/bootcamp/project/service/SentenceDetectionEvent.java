@@ -0,0 +1,26 @@
+package me.dio.bootcamp.project.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de uma detecção de sentenças, do empréstimo do detector até a devolução ao pool.
+ */
+@Name("me.dio.summarizer.SentenceDetection")
+@Label("Detecção de sentenças")
+@Category({"Summarizer", "Sumarização"})
+@Description("Detecção de sentenças com um detector do pool, incluindo a espera por ele")
+class SentenceDetectionEvent extends jdk.jfr.Event {
+
+    @Label("Operação")
+    String operation;
+
+    @Label("Tamanho da entrada")
+    @Description("Caracteres do texto recebido")
+    int inputLength;
+
+    @Label("Sentenças")
+    int sentenceCount;
+}
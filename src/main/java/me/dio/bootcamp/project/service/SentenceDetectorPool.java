@@ -0,0 +1,289 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.util.Span;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Pool limitado de {@link SentenceDetectorME}. O modelo é carregado uma única vez e
+ * compartilhado; cada detector (que não é thread-safe) é usado por uma thread por vez.
+ * <p>
+ * Com {@code summarizer.model.background-load} o modelo é carregado em uma thread separada,
+ * sem atrasar a inicialização; até lá, quem pede um detector espera no máximo {@code max-wait}
+ * e a aplicação fica fora de prontidão (ver {@link SentenceModelHealthIndicator}).
+ * <p>
+ * A carga do modelo e cada detecção emitem eventos JFR ({@link ModelLoadEvent} e
+ * {@link SentenceDetectionEvent}). Com a gravação desligada, {@code shouldCommit()} devolve
+ * {@code false} e os campos nem são preenchidos.
+ */
+@Component
+public class SentenceDetectorPool implements SentenceSplitter {
+
+    static final String MODEL_RESOURCE_DIRECTORY = "/models/";
+    static final String LANGUAGE_TAG = "language";
+
+    private final BlockingQueue<SentenceDetectorME> idle;
+    private final int size;
+    private final Duration maxWait;
+    private volatile boolean ready;
+    private volatile RuntimeException loadFailure;
+    private final Timer waitTimer;
+    private final Timer borrowTimer;
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> gauges;
+
+    @Autowired
+    public SentenceDetectorPool(@Value("${summarizer.pool.size:0}") int size,
+                                @Value("${summarizer.pool.max-wait:5s}") Duration maxWait,
+                                @Value("${summarizer.model.background-load:false}") boolean backgroundLoad,
+                                @Value("${summarizer.model.default-language:pt}") String language,
+                                @Value("${summarizer.model.directory:}") String directory,
+                                MeterRegistry meterRegistry) {
+        this(() -> loadModel(language, modelDirectory(directory), meterRegistry), backgroundLoad, size, maxWait, language,
+                meterRegistry);
+    }
+
+    /**
+     * As métricas do pool levam a tag {@code language}, para que os pools de cada idioma convivam no
+     * mesmo {@link MeterRegistry}.
+     */
+    SentenceDetectorPool(ModelLoader loader, boolean backgroundLoad, int size, Duration maxWait, String language,
+                         MeterRegistry meterRegistry) {
+        this.size = size > 0 ? size : Runtime.getRuntime().availableProcessors();
+        this.maxWait = maxWait;
+        this.idle = new ArrayBlockingQueue<>(this.size);
+        this.meterRegistry = meterRegistry;
+
+        this.gauges = List.of(
+                Gauge.builder("summarizer.pool.size", this, SentenceDetectorPool::getSize)
+                        .description("Número de detectores de sentenças no pool")
+                        .tag(LANGUAGE_TAG, language)
+                        .register(meterRegistry),
+                Gauge.builder("summarizer.model.ready", this, pool -> pool.isReady() ? 1 : 0)
+                        .description("1 quando o modelo de detecção de sentenças já foi carregado")
+                        .tag(LANGUAGE_TAG, language)
+                        .register(meterRegistry),
+                Gauge.builder("summarizer.pool.idle", idle, BlockingQueue::size)
+                        .description("Detectores de sentenças disponíveis")
+                        .tag(LANGUAGE_TAG, language)
+                        .register(meterRegistry));
+        this.waitTimer = Timer.builder("summarizer.pool.wait")
+                .description("Tempo de espera para obter um detector do pool")
+                .tag(LANGUAGE_TAG, language)
+                .register(meterRegistry);
+        this.borrowTimer = Timer.builder("summarizer.pool.borrow")
+                .description("Tempo em que um detector fica emprestado, ou seja, o tempo de detecção das sentenças")
+                .tag(LANGUAGE_TAG, language)
+                .register(meterRegistry);
+
+        if (backgroundLoad) {
+            Thread loaderThread = new Thread(() -> load(loader), "summarizer-model-loader");
+            loaderThread.setDaemon(true);
+            loaderThread.start();
+        } else {
+            load(loader);
+            if (loadFailure != null) {
+                throw loadFailure;
+            }
+        }
+    }
+
+    /**
+     * Carrega {@code <idioma>-sent.bin} de {@code directory}, se ele existir lá, ou de {@code /models}
+     * no classpath.
+     */
+    static SentenceModel loadModel(String language, Path directory) throws IOException {
+        Path file = modelFile(language, directory);
+        try (InputStream modelIn = file != null
+                ? Files.newInputStream(file)
+                : SentenceDetectorPool.class.getResourceAsStream(MODEL_RESOURCE_DIRECTORY + modelFileName(language))) {
+            if (modelIn == null) {
+                throw new IOException("Modelo de detecção de sentenças não encontrado para o idioma " + language);
+            }
+            return new SentenceModel(modelIn);
+        }
+    }
+
+    static SentenceModel loadModel(String language, Path directory, MeterRegistry meterRegistry) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return loadModel(language, directory);
+        } finally {
+            sample.stop(Timer.builder("summarizer.model.load")
+                    .description("Tempo para carregar o modelo de detecção de sentenças")
+                    .tag(LANGUAGE_TAG, language)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Tira do registro os medidores que apontam para este pool, depois que ele sai do cache de
+     * modelos. Os timers ficam: um pool novo do mesmo idioma continua a contagem.
+     */
+    void removeGauges() {
+        gauges.forEach(meterRegistry::remove);
+    }
+
+    @Override
+    public String[] sentDetect(String text) {
+        SentenceDetectionEvent event = new SentenceDetectionEvent();
+        event.begin();
+        String[] sentences = execute(detector -> detector.sentDetect(text));
+        commit(event, "sentDetect", text.length(), sentences.length);
+        return sentences;
+    }
+
+    @Override
+    public Span[] sentPosDetect(String text) {
+        SentenceDetectionEvent event = new SentenceDetectionEvent();
+        event.begin();
+        Span[] spans = execute(detector -> detector.sentPosDetect(text));
+        commit(event, "sentPosDetect", text.length(), spans.length);
+        return spans;
+    }
+
+    @Override
+    public String[] firstSentences(CharSequence text, int count) {
+        SentenceDetectionEvent event = new SentenceDetectionEvent();
+        event.begin();
+        String[] first = execute(detector -> {
+            SentenceBoundaryIterator sentences = new SentenceBoundaryIterator(detector, text);
+            List<String> found = new ArrayList<>(Math.max(0, Math.min(count, 16)));
+            while (found.size() < count && sentences.hasNext()) {
+                Span span = sentences.next();
+                found.add(text.subSequence(span.getStart(), span.getEnd()).toString());
+            }
+            return found.toArray(String[]::new);
+        });
+        commit(event, "firstSentences", text.length(), first.length);
+        return first;
+    }
+
+    public <T> T execute(Function<SentenceDetectorME, T> work) {
+        SentenceDetectorME detector = borrow();
+        long start = System.nanoTime();
+        try {
+            return work.apply(detector);
+        } finally {
+            idle.offer(detector);
+            borrowTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getIdle() {
+        return idle.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Erro do carregamento do modelo, ou {@code null} se ele ainda não falhou.
+     */
+    public RuntimeException getLoadFailure() {
+        return loadFailure;
+    }
+
+    private void load(ModelLoader loader) {
+        ModelLoadEvent event = new ModelLoadEvent();
+        event.begin();
+        try {
+            SentenceModel model = loader.load();
+            List<SentenceDetectorME> detectors = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                detectors.add(new SentenceDetectorME(model));
+            }
+            // Pronto antes de liberar os detectores: quem recebe um já vê o pool pronto
+            ready = true;
+            idle.addAll(detectors);
+        } catch (IOException e) {
+            loadFailure = new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            loadFailure = e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.detectors = idle.size();
+                event.success = ready;
+                event.commit();
+            }
+        }
+    }
+
+    static void commit(SentenceDetectionEvent event, String operation, int inputLength, int sentenceCount) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.inputLength = inputLength;
+            event.sentenceCount = sentenceCount;
+            event.commit();
+        }
+    }
+
+    private SentenceDetectorME borrow() {
+        if (loadFailure != null) {
+            throw new IllegalStateException("Modelo de detecção de sentenças não pôde ser carregado", loadFailure);
+        }
+        long start = System.nanoTime();
+        try {
+            SentenceDetectorME detector = idle.poll(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            if (detector == null) {
+                throw new IllegalStateException(
+                        "Nenhum detector de sentenças disponível após " + maxWait.toMillis() + " ms");
+            }
+            return detector;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando um detector de sentenças", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static String modelFileName(String language) {
+        return language + "-sent.bin";
+    }
+
+    /**
+     * O arquivo do modelo no diretório externo, ou {@code null} se ele não estiver lá.
+     */
+    static Path modelFile(String language, Path directory) {
+        if (directory == null) {
+            return null;
+        }
+        Path file = directory.resolve(modelFileName(language));
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    static Path modelDirectory(String directory) {
+        return directory == null || directory.isBlank() ? null : Path.of(directory);
+    }
+
+    @FunctionalInterface
+    interface ModelLoader {
+        SentenceModel load() throws IOException;
+    }
+}
@@ -0,0 +1,30 @@
+package me.dio.bootcamp.project.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fica {@code DOWN} enquanto o modelo de detecção de sentenças não termina de carregar.
+ * Faz parte do grupo de prontidão, então o balanceador só envia tráfego depois disso.
+ */
+@Component
+public class SentenceModelHealthIndicator implements HealthIndicator {
+
+    private final SentenceDetectorPool detectorPool;
+
+    public SentenceModelHealthIndicator(SentenceDetectorPool detectorPool) {
+        this.detectorPool = detectorPool;
+    }
+
+    @Override
+    public Health health() {
+        if (detectorPool.isReady()) {
+            return Health.up().withDetail("detectors", detectorPool.getSize()).build();
+        }
+        RuntimeException failure = detectorPool.getLoadFailure();
+        return failure != null
+                ? Health.down(failure).build()
+                : Health.down().withDetail("status", "Carregando o modelo").build();
+    }
+}
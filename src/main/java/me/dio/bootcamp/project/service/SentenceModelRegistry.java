@@ -0,0 +1,229 @@
+package me.dio.bootcamp.project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import opennlp.tools.langdetect.Language;
+import opennlp.tools.langdetect.LanguageDetectorME;
+import opennlp.tools.langdetect.LanguageDetectorModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Modelos de sentenças por idioma. Os modelos instalados são os {@code <idioma>-sent.bin} de
+ * {@code summarizer.model.directory} e de {@code /models} no classpath; o do diretório tem prioridade.
+ * <p>
+ * O idioma padrão usa o {@link SentenceDetectorPool} da aplicação, que fica sempre carregado. Os demais
+ * são carregados no primeiro pedido e guardados num cache limitado por {@code summarizer.model.max-memory}:
+ * quando a estimativa passa do limite, o idioma menos usado sai do cache e é recarregado se voltar a ser
+ * pedido. Assim a memória acompanha os idiomas em uso, não os instalados.
+ * <p>
+ * Sem idioma no pedido, ele é detectado com o {@link LanguageDetectorME} do OpenNLP, se houver um
+ * {@code langdetect-183.bin} no diretório ou no classpath. Sem esse modelo, ou se o idioma detectado não
+ * estiver instalado, vale o idioma padrão.
+ */
+@Component
+public class SentenceModelRegistry {
+
+    static final String LANGUAGE_DETECTOR_MODEL = "langdetect-183.bin";
+
+    /**
+     * O modelo descompactado ocupa cerca de 9x o arquivo (medido com {@code pt-sent.bin}).
+     */
+    private static final int MODEL_MEMORY_FACTOR = 10;
+    private static final int DETECTION_SAMPLE_CHARS = 1000;
+
+    private final String defaultLanguage;
+    private final SentenceDetectorPool defaultPool;
+    private final Path directory;
+    private final Set<String> installed;
+    private final int poolSize;
+    private final Duration maxWait;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, SentenceDetectorPool> pools;
+    private final Map<String, String> isoCodes = new HashMap<>();
+    private final ThreadLocal<LanguageDetectorME> languageDetector;
+
+    @Autowired
+    public SentenceModelRegistry(SentenceDetectorPool defaultPool,
+                                 @Value("${summarizer.model.default-language:pt}") String defaultLanguage,
+                                 @Value("${summarizer.model.directory:}") String directory,
+                                 @Value("${summarizer.model.max-memory:256MB}") DataSize maxMemory,
+                                 @Value("${summarizer.pool.size:0}") int poolSize,
+                                 @Value("${summarizer.pool.max-wait:5s}") Duration maxWait,
+                                 MeterRegistry meterRegistry) throws IOException {
+        this(defaultPool, defaultLanguage, SentenceDetectorPool.modelDirectory(directory), maxMemory, poolSize, maxWait,
+                meterRegistry);
+    }
+
+    SentenceModelRegistry(SentenceDetectorPool defaultPool, String defaultLanguage, Path directory, DataSize maxMemory,
+                          int poolSize, Duration maxWait, MeterRegistry meterRegistry) throws IOException {
+        this.defaultLanguage = defaultLanguage;
+        this.defaultPool = defaultPool;
+        this.directory = directory;
+        this.installed = installedLanguages(directory, defaultLanguage);
+        this.poolSize = poolSize;
+        this.maxWait = maxWait;
+        this.meterRegistry = meterRegistry;
+        this.pools = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((String language, SentenceDetectorPool pool) -> estimatedMemory(language))
+                .removalListener((String language, SentenceDetectorPool pool, RemovalCause cause) -> pool.removeGauges())
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        LanguageDetectorModel detectorModel = loadLanguageDetector(directory);
+        this.languageDetector = detectorModel == null ? null : ThreadLocal.withInitial(() -> new LanguageDetectorME(detectorModel));
+        for (String code : Locale.getISOLanguages()) {
+            try {
+                isoCodes.put(Locale.forLanguageTag(code).getISO3Language(), code);
+            } catch (MissingResourceException e) {
+                // Sem código de três letras; o detector nunca devolve esse idioma
+            }
+        }
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pools, "sentence-models");
+        Gauge.builder("summarizer.models.loaded", this, registry -> registry.pools.estimatedSize() + 1)
+                .description("Idiomas com o modelo de sentenças carregado, contando o padrão")
+                .register(meterRegistry);
+        Gauge.builder("summarizer.models.memory", this, SentenceModelRegistry::getWeightedSize)
+                .description("Memória estimada dos modelos de sentenças carregados sob demanda")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public String getDefaultLanguage() {
+        return defaultLanguage;
+    }
+
+    public Set<String> getLanguages() {
+        return installed;
+    }
+
+    /**
+     * O código do idioma normalizado, se ele estiver instalado.
+     *
+     * @throws UnsupportedLanguageException se não houver modelo para o idioma
+     */
+    public String requireInstalled(String language) {
+        String code = language.trim().toLowerCase(Locale.ROOT);
+        if (!installed.contains(code)) {
+            throw new UnsupportedLanguageException(language, installed);
+        }
+        return code;
+    }
+
+    /**
+     * O idioma pedido ou, com {@code language} nulo, o detectado no texto.
+     */
+    public String resolve(String language, CharSequence text) {
+        return language != null ? requireInstalled(language) : detect(text);
+    }
+
+    /**
+     * O pool do idioma, carregando o modelo se ele ainda não estiver em memória.
+     */
+    public SentenceDetectorPool detectors(String language) {
+        if (language.equals(defaultLanguage)) {
+            return defaultPool;
+        }
+        String code = requireInstalled(language);
+        return pools.get(code, this::createPool);
+    }
+
+    public long getWeightedSize() {
+        return pools.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    String detect(CharSequence text) {
+        if (languageDetector == null || text.isEmpty()) {
+            return defaultLanguage;
+        }
+        CharSequence sample = text.length() > DETECTION_SAMPLE_CHARS ? text.subSequence(0, DETECTION_SAMPLE_CHARS) : text;
+        Language best = languageDetector.get().predictLanguage(sample);
+        String code = isoCodes.getOrDefault(best.getLang(), best.getLang());
+        return installed.contains(code) ? code : defaultLanguage;
+    }
+
+    /**
+     * Os pools carregados sob demanda registram as métricas no {@link MeterRegistry} da aplicação, com a
+     * tag {@code language}, como o do idioma padrão.
+     */
+    private SentenceDetectorPool createPool(String language) {
+        return new SentenceDetectorPool(() -> SentenceDetectorPool.loadModel(language, directory, meterRegistry), false,
+                poolSize, maxWait, language, meterRegistry);
+    }
+
+    private int estimatedMemory(String language) {
+        try {
+            Path file = SentenceDetectorPool.modelFile(language, directory);
+            long size = file != null
+                    ? Files.size(file)
+                    : new PathMatchingResourcePatternResolver()
+                    .getResource("classpath:" + SentenceDetectorPool.MODEL_RESOURCE_DIRECTORY
+                            + SentenceDetectorPool.modelFileName(language))
+                    .contentLength();
+            return (int) Math.min(Integer.MAX_VALUE, size * MODEL_MEMORY_FACTOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Set<String> installedLanguages(Path directory, String defaultLanguage) throws IOException {
+        Set<String> languages = new TreeSet<>();
+        languages.add(defaultLanguage);
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:" + SentenceDetectorPool.MODEL_RESOURCE_DIRECTORY + "*-sent.bin");
+        for (Resource resource : resources) {
+            languages.add(language(resource.getFilename()));
+        }
+        if (directory != null && Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(file -> file.getFileName().toString())
+                        .filter(name -> name.endsWith("-sent.bin"))
+                        .forEach(name -> languages.add(language(name)));
+            }
+        }
+        return Collections.unmodifiableSet(languages);
+    }
+
+    private static String language(String fileName) {
+        return fileName.substring(0, fileName.length() - "-sent.bin".length());
+    }
+
+    private static LanguageDetectorModel loadLanguageDetector(Path directory) throws IOException {
+        if (directory != null && Files.isRegularFile(directory.resolve(LANGUAGE_DETECTOR_MODEL))) {
+            try (InputStream modelIn = Files.newInputStream(directory.resolve(LANGUAGE_DETECTOR_MODEL))) {
+                return new LanguageDetectorModel(modelIn);
+            }
+        }
+        try (InputStream modelIn = SentenceModelRegistry.class.getResourceAsStream(
+                SentenceDetectorPool.MODEL_RESOURCE_DIRECTORY + LANGUAGE_DETECTOR_MODEL)) {
+            return modelIn == null ? null : new LanguageDetectorModel(modelIn);
+        }
+    }
+}
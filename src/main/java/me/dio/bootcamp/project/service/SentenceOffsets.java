@@ -0,0 +1,95 @@
+package me.dio.bootcamp.project.service;
+
+import lombok.experimental.UtilityClass;
+import opennlp.tools.util.Span;
+
+import java.util.Arrays;
+
+/**
+ * Codifica as fronteiras das sentenças como pares de varints: a distância desde o fim da
+ * sentença anterior até o início da próxima e o tamanho da sentença. Textos comuns ficam com
+ * dois ou três bytes por sentença, e as primeiras N sentenças são lidas sem decodificar o resto.
+ */
+@UtilityClass
+public class SentenceOffsets {
+
+    public static byte[] encode(Span[] sentences) {
+        byte[] packed = new byte[Math.max(16, sentences.length * 4)];
+        int size = 0;
+        int previousEnd = 0;
+        for (Span sentence : sentences) {
+            packed = ensure(packed, size + 10);
+            size = writeVarint(packed, size, sentence.getStart() - previousEnd);
+            size = writeVarint(packed, size, sentence.getEnd() - sentence.getStart());
+            previousEnd = sentence.getEnd();
+        }
+        return Arrays.copyOf(packed, size);
+    }
+
+    /**
+     * Junta as primeiras {@code lines} sentenças com um espaço, como faz o resumo lead.
+     */
+    public static String slice(String text, byte[] offsets, int lines) {
+        StringBuilder summary = new StringBuilder();
+        VarintReader reader = new VarintReader(offsets);
+        int previousEnd = 0;
+        for (int line = 0; line < lines && reader.hasNext(); line++) {
+            int start = previousEnd + reader.next();
+            int end = start + reader.next();
+            if (line > 0) {
+                summary.append(' ');
+            }
+            summary.append(text, start, end);
+            previousEnd = end;
+        }
+        return summary.toString();
+    }
+
+    public static int count(byte[] offsets) {
+        int varints = 0;
+        for (byte b : offsets) {
+            if ((b & 0x80) == 0) {
+                varints++;
+            }
+        }
+        return varints / 2;
+    }
+
+    private static int writeVarint(byte[] target, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            target[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[position++] = (byte) value;
+        return position;
+    }
+
+    private static byte[] ensure(byte[] array, int size) {
+        return array.length >= size ? array : Arrays.copyOf(array, Math.max(size, array.length * 2));
+    }
+
+    private static final class VarintReader {
+
+        private final byte[] source;
+        private int position;
+
+        VarintReader(byte[] source) {
+            this.source = source;
+        }
+
+        boolean hasNext() {
+            return position < source.length;
+        }
+
+        int next() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = source[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package me.dio.bootcamp.project.service;
+
+import opennlp.tools.util.Span;
+
+/**
+ * Divide um texto em sentenças. As sentenças vêm sem os espaços das pontas, na ordem do texto.
+ *
+ * @see SentenceDetectorPool
+ * @see RuleBasedSentenceSplitter
+ */
+public interface SentenceSplitter {
+
+    String[] sentDetect(String text);
+
+    Span[] sentPosDetect(String text);
+
+    /**
+     * Apenas as primeiras {@code count} sentenças, sem processar o restante do texto.
+     */
+    String[] firstSentences(CharSequence text, int count);
+}
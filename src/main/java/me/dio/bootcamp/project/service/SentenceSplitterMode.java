@@ -0,0 +1,24 @@
+package me.dio.bootcamp.project.service;
+
+import java.util.Locale;
+
+/**
+ * Como o {@link TextSummarizer} divide os textos em sentenças: só com o modelo do OpenNLP ou com o
+ * {@link RuleBasedSentenceSplitter}, que recorre ao modelo quando o texto é ambíguo.
+ */
+public enum SentenceSplitterMode {
+    MODEL,
+    RULES;
+
+    public static SentenceSplitterMode from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Divisor de sentenças inválido: " + value + ". Use model ou rules.");
+        }
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,58 @@
+package me.dio.bootcamp.project.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executor limitado usado para sumarizar textos em paralelo. Quando a fila enche,
+ * a própria thread chamadora executa a tarefa, o que aplica backpressure ao lote.
+ * <p>
+ * Com {@code spring.threads.virtual.enabled} cada tarefa roda em uma thread virtual, e o limite
+ * de concorrência (um por núcleo, já que a sumarização usa CPU) bloqueia quem submete até
+ * abrir uma vaga.
+ */
+@Component
+public class SummarizationExecutor implements DisposableBean {
+
+    private final Executor executor;
+
+    public SummarizationExecutor(@Value("${summarizer.executor.threads:0}") int threads,
+                                 @Value("${summarizer.executor.queue-capacity:1000}") int queueCapacity,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("summarizer-");
+            virtual.setVirtualThreads(true);
+            virtual.setConcurrencyLimit(size);
+            this.executor = virtual;
+        } else {
+            this.executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("summarizer-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor virtual) {
+            virtual.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package me.dio.bootcamp.project.service;
+
+import java.util.UUID;
+
+/**
+ * Situação de um job. Guarda só o id do texto salvo, e não a entidade, porque os jobs ficam em
+ * memória até expirar.
+ */
+public record SummarizationJob(UUID id, Status status, Long textId, String message) {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        DUPLICATE,
+        FAILED
+    }
+
+    public static SummarizationJob pending(UUID id) {
+        return new SummarizationJob(id, Status.PENDING, null, null);
+    }
+
+    public SummarizationJob running() {
+        return new SummarizationJob(id, Status.RUNNING, null, null);
+    }
+
+    public SummarizationJob done(Long textId) {
+        return new SummarizationJob(id, Status.DONE, textId, null);
+    }
+
+    public SummarizationJob duplicate(String message) {
+        return new SummarizationJob(id, Status.DUPLICATE, null, message);
+    }
+
+    public SummarizationJob failed(String message) {
+        return new SummarizationJob(id, Status.FAILED, null, message);
+    }
+}
@@ -0,0 +1,96 @@
+package me.dio.bootcamp.project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Salva textos em segundo plano. Os jobs entram em uma fila limitada consumida por um pool
+ * dedicado; com a fila cheia o job é recusado em vez de enfileirado. O estado de cada job
+ * fica disponível para consulta até expirar ou até passar de {@code summarizer.jobs.max-retained}
+ * jobs guardados.
+ */
+@Service
+public class SummarizationJobService implements DisposableBean {
+
+    private final TextService textService;
+    private final ThreadPoolExecutor executor;
+    private final Cache<UUID, SummarizationJob> jobs;
+    private final Counter rejected;
+
+    public SummarizationJobService(TextService textService,
+                                   @Value("${summarizer.jobs.threads:0}") int threads,
+                                   @Value("${summarizer.jobs.queue-capacity:100}") int queueCapacity,
+                                   @Value("${summarizer.jobs.ttl:1h}") Duration ttl,
+                                   @Value("${summarizer.jobs.max-retained:10000}") long maxRetained,
+                                   MeterRegistry meterRegistry) {
+        this.textService = textService;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("summarizer-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxRetained)
+                .build();
+
+        new ExecutorServiceMetrics(executor, "summarizer.jobs", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("summarizer.jobs.utilization", executor, e -> (double) e.getActiveCount() / e.getMaximumPoolSize())
+                .description("Fração dos workers de sumarização ocupados")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("summarizer.jobs.rejected")
+                .description("Jobs recusados porque a fila estava cheia")
+                .register(meterRegistry);
+    }
+
+    public SummarizationJob submit(String text, int lines, SummaryAlgorithm algorithm, String language) {
+        SummarizationJob job = SummarizationJob.pending(UUID.randomUUID());
+        jobs.put(job.id(), job);
+        try {
+            executor.execute(() -> run(job, text, lines, algorithm, language));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id());
+            rejected.increment();
+            throw new JobQueueFullException();
+        }
+        return job;
+    }
+
+    public Optional<SummarizationJob> findById(UUID id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    private void run(SummarizationJob job, String text, int lines, SummaryAlgorithm algorithm, String language) {
+        jobs.put(job.id(), job.running());
+        try {
+            jobs.put(job.id(), job.done(textService.saveText(text, lines, algorithm, language).getId()));
+        } catch (DuplicateTextException e) {
+            jobs.put(job.id(), job.duplicate(e.getMessage()));
+        } catch (Exception e) {
+            jobs.put(job.id(), job.failed("Erro ao salvar o texto: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
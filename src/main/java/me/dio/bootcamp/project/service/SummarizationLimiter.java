@@ -0,0 +1,165 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Controle de admissão das sumarizações síncronas. Quem passa do limite recebe
+ * {@link SummarizationOverloadedException} na hora, sem esperar em fila.
+ * <p>
+ * O limite global é adaptativo (AIMD): cada sumarização mais lenta que {@code latency-threshold}
+ * multiplica o limite por {@code backoff-ratio}; cada uma dentro do tempo, com o limite pelo menos
+ * meio ocupado, soma um. Só entram nesse ajuste as sumarizações de tamanho limitado; as de
+ * documentos grandes ({@link #acquireUnsampled}) ocupam vaga, mas sua latência não mede a carga.
+ * Cada cliente pode ter no máximo {@code per-client} sumarizações em andamento, para que um só
+ * cliente não ocupe todas as vagas.
+ */
+@Component
+public class SummarizationLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int perClientLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoTime;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentMap<String, Integer> clients = new ConcurrentHashMap<>();
+    private volatile int limit;
+
+    private final Counter rejectedByLimit;
+    private final Counter rejectedByClient;
+
+    @Autowired
+    public SummarizationLimiter(@Value("${summarizer.limiter.initial-limit:0}") int initialLimit,
+                                @Value("${summarizer.limiter.min-limit:1}") int minLimit,
+                                @Value("${summarizer.limiter.max-limit:0}") int maxLimit,
+                                @Value("${summarizer.limiter.per-client:4}") int perClientLimit,
+                                @Value("${summarizer.limiter.latency-threshold:2s}") Duration latencyThreshold,
+                                @Value("${summarizer.limiter.backoff-ratio:0.9}") double backoffRatio,
+                                MeterRegistry meterRegistry) {
+        this(initialLimit, minLimit, maxLimit, perClientLimit, latencyThreshold, backoffRatio, meterRegistry, System::nanoTime);
+    }
+
+    SummarizationLimiter(int initialLimit, int minLimit, int maxLimit, int perClientLimit, Duration latencyThreshold,
+                         double backoffRatio, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit > 0 ? maxLimit : cores * 2);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit > 0 ? initialLimit : cores));
+        this.perClientLimit = perClientLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoTime = nanoTime;
+
+        Gauge.builder("summarizer.limiter.limit", this, SummarizationLimiter::getLimit)
+                .description("Limite atual de sumarizações simultâneas")
+                .register(meterRegistry);
+        Gauge.builder("summarizer.limiter.inflight", inFlight, AtomicInteger::get)
+                .description("Sumarizações síncronas em andamento")
+                .register(meterRegistry);
+        this.rejectedByLimit = rejectedCounter(meterRegistry, "limit");
+        this.rejectedByClient = rejectedCounter(meterRegistry, "client");
+    }
+
+    /**
+     * Reserva uma vaga para {@code client}. A vaga deve ser liberada com {@link Permit#close()}.
+     */
+    public Permit acquire(String client) {
+        return acquire(client, true);
+    }
+
+    /**
+     * Como {@link #acquire}, mas a latência desta sumarização não altera o limite. Para entradas
+     * sem tamanho máximo, cuja demora vem do tamanho do texto e não da carga do servidor.
+     */
+    public Permit acquireUnsampled(String client) {
+        return acquire(client, false);
+    }
+
+    private Permit acquire(String client, boolean sampled) {
+        if (clients.merge(client, 1, Integer::sum) > perClientLimit) {
+            releaseClient(client);
+            rejectedByClient.increment();
+            throw new SummarizationOverloadedException(
+                    "Limite de sumarizações simultâneas por cliente atingido. Tente novamente em instantes.");
+        }
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                releaseClient(client);
+                rejectedByLimit.increment();
+                throw new SummarizationOverloadedException("Servidor sobrecarregado. Tente novamente em instantes.");
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return new Permit(client, sampled, current + 1, nanoTime.getAsLong());
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onComplete(long latencyNanos, int inFlightAtStart) {
+        if (latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    private void releaseClient(String client) {
+        clients.computeIfPresent(client, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("summarizer.limiter.rejected")
+                .description("Sumarizações recusadas por excesso de carga")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final String client;
+        private final boolean sampled;
+        private final int inFlightAtStart;
+        private final long start;
+        private boolean closed;
+
+        private Permit(String client, boolean sampled, int inFlightAtStart, long start) {
+            this.client = client;
+            this.sampled = sampled;
+            this.inFlightAtStart = inFlightAtStart;
+            this.start = start;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            inFlight.decrementAndGet();
+            releaseClient(client);
+            if (sampled) {
+                onComplete(nanoTime.getAsLong() - start, inFlightAtStart);
+            }
+        }
+    }
+}
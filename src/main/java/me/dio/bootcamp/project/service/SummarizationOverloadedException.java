@@ -0,0 +1,8 @@
+package me.dio.bootcamp.project.service;
+
+public class SummarizationOverloadedException extends RuntimeException {
+
+    public SummarizationOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package me.dio.bootcamp.project.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR da montagem de um resumo pela estratégia, emitido só quando o resumo não veio do cache.
+ */
+@Name("me.dio.summarizer.SummaryBuild")
+@Label("Montagem do resumo")
+@Category({"Summarizer", "Sumarização"})
+@Description("Resumo calculado pela estratégia, sem contar os acertos do cache de resumos")
+class SummaryBuildEvent extends jdk.jfr.Event {
+
+    @Label("Algoritmo")
+    String algorithm;
+
+    @Label("Idioma")
+    String language;
+
+    @Label("Divisor de sentenças")
+    @Description("model ou rules; no modo rules, textos ambíguos ainda usam o modelo")
+    String splitter;
+
+    @Label("Linhas")
+    int lines;
+
+    @Label("Tamanho da entrada")
+    @Description("Caracteres do texto recebido")
+    int inputLength;
+
+    @Label("Tamanho do resumo")
+    @Description("Caracteres do resumo gerado")
+    int summaryLength;
+}
@@ -0,0 +1,67 @@
+package me.dio.bootcamp.project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache de resumos limitado pelo tamanho estimado em memória, com a política W-TinyLFU do Caffeine.
+ * A chave é o hash do conteúdo exato (o resumo preserva maiúsculas e espaçamento do original)
+ * junto com o número de linhas, o algoritmo e o idioma.
+ */
+@Component
+public class SummaryCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    private final Cache<Key, String> cache;
+
+    public SummaryCache(@Value("${summarizer.cache.max-memory:64MB}") DataSize maxMemory, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((Key key, String summary) -> ENTRY_OVERHEAD_BYTES + summary.length() * 2)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "summaries");
+        Gauge.builder("summarizer.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Proporção de resumos servidos pelo cache")
+                .register(meterRegistry);
+        Gauge.builder("summarizer.cache.memory", this, SummaryCache::getWeightedSize)
+                .description("Memória estimada ocupada pelos resumos em cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("summarizer.cache.memory.max", maxMemory, DataSize::toBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public String get(String text, int lines, SummaryAlgorithm algorithm, String language, Supplier<String> summarizer) {
+        Key key = new Key(ContentHash.sha256Hex(text), lines, algorithm, language);
+        String summary = cache.getIfPresent(key);
+        if (summary == null) {
+            // Calcula fora do lock do cache; na pior das hipóteses duas threads resumem o mesmo texto
+            summary = summarizer.get();
+            cache.put(key, summary);
+        }
+        return summary;
+    }
+
+    public long getWeightedSize() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    record Key(String contentHash, int lines, SummaryAlgorithm algorithm, String language) {
+    }
+}
@@ -0,0 +1,97 @@
+package me.dio.bootcamp.project.service;
+
+import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.repository.TextRepository;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Service
+public class TextBatchService {
+
+    private final TextRepository textRepository;
+    private final TextSummarizer summarizer;
+    private final SummarizationExecutor executor;
+
+    public TextBatchService(TextRepository textRepository, TextSummarizer summarizer, SummarizationExecutor executor) {
+        this.textRepository = textRepository;
+        this.summarizer = summarizer;
+        this.executor = executor;
+    }
+
+    public List<BatchItemResult> saveTexts(List<String> texts, int lines, SummaryAlgorithm algorithm, String language) {
+        BatchItemResult[] results = new BatchItemResult[texts.size()];
+
+        String[] hashes = new String[texts.size()];
+        for (int i = 0; i < texts.size(); i++) {
+            hashes[i] = ContentHash.of(texts.get(i));
+        }
+        Set<String> seen = new HashSet<>(textRepository.findExistingContentHashes(Arrays.asList(hashes)));
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            if (!seen.add(hashes[i])) {
+                results[i] = BatchItemResult.duplicate(i);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        List<CompletableFuture<String>> summaries = new ArrayList<>(pending.size());
+        for (int index : pending) {
+            String text = texts.get(index);
+            summaries.add(executor.supplyAsync(() -> summarizer.summarize(text, lines, algorithm, language)));
+        }
+
+        List<Integer> summarized = new ArrayList<>(pending.size());
+        List<Text> toSave = new ArrayList<>(pending.size());
+        for (int n = 0; n < pending.size(); n++) {
+            int index = pending.get(n);
+            try {
+                toSave.add(Text.builder()
+                        .text(texts.get(index))
+                        .textReduced(summaries.get(n).join())
+                        .contentHash(hashes[index])
+                        .build());
+                summarized.add(index);
+            } catch (CompletionException e) {
+                results[index] = BatchItemResult.failed(index, "Erro ao resumir o texto: " + e.getCause().getMessage());
+            }
+        }
+
+        try {
+            List<Text> saved = textRepository.saveAll(toSave);
+            for (int n = 0; n < summarized.size(); n++) {
+                int index = summarized.get(n);
+                results[index] = BatchItemResult.saved(index, saved.get(n));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição inseriu algum destes textos depois da verificação; salva item a item
+            for (int n = 0; n < summarized.size(); n++) {
+                int index = summarized.get(n);
+                results[index] = saveOne(index, toSave.get(n));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private BatchItemResult saveOne(int index, Text text) {
+        text.setId(null);
+        try {
+            return BatchItemResult.saved(index, textRepository.save(text));
+        } catch (DataIntegrityViolationException e) {
+            if (textRepository.existsByContentHash(text.getContentHash())) {
+                return BatchItemResult.duplicate(index);
+            }
+            return BatchItemResult.failed(index, "Erro ao salvar o texto: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+}
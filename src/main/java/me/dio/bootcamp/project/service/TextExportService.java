@@ -0,0 +1,30 @@
+package me.dio.bootcamp.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.dio.bootcamp.project.repository.TextExportRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+public class TextExportService {
+
+    private final TextExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    public TextExportService(TextExportRepository exportRepository, ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Escreve em {@code out} todos os textos com id maior que {@code sinceId}, em ordem de id. O último id
+     * exportado serve de {@code sinceId} para o próximo export incremental.
+     */
+    public void export(long sinceId, ExportFormat format, OutputStream out) throws IOException {
+        TextExportWriter writer = TextExportWriter.of(format, out, objectMapper);
+        exportRepository.forEachAfter(sinceId, writer);
+        writer.flush();
+    }
+}
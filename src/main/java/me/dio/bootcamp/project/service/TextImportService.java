@@ -0,0 +1,250 @@
+package me.dio.bootcamp.project.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.repository.TextCopyRepository;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Importação em massa de um arquivo JSONL ou CSV. O arquivo é lido em lotes de {@code chunk-size}
+ * registros; cada lote é resumido em paralelo no {@link SummarizationExecutor} e gravado com
+ * {@link TextCopyRepository#copy}, então a memória usada depende do lote, não do arquivo.
+ * <p>
+ * Depois de cada lote gravado, a posição no arquivo e os totais vão para {@code <arquivo>.checkpoint}.
+ * Uma nova importação do mesmo arquivo continua dali; se ela parar entre a gravação e o checkpoint, o
+ * lote é reenviado e os textos já gravados contam como duplicados. O checkpoint é apagado no fim.
+ */
+@Service
+public class TextImportService {
+
+    static final String TEXT_FIELD = "text";
+
+    private final TextCopyRepository copyRepository;
+    private final TextSummarizer summarizer;
+    private final SummarizationExecutor executor;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxRecordBytes;
+    private final Counter importedRecords;
+    private final Counter duplicateRecords;
+    private final Counter failedRecords;
+
+    public TextImportService(TextCopyRepository copyRepository, TextSummarizer summarizer,
+                             SummarizationExecutor executor, ObjectMapper objectMapper,
+                             @Value("${summarizer.import.chunk-size:1000}") int chunkSize,
+                             @Value("${summarizer.upload.max-size:10MB}") DataSize maxRecordSize,
+                             MeterRegistry meterRegistry) {
+        this.copyRepository = copyRepository;
+        this.summarizer = summarizer;
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRecordBytes = (int) Math.min(Integer.MAX_VALUE - 8, maxRecordSize.toBytes());
+        this.importedRecords = records(meterRegistry, "imported");
+        this.duplicateRecords = records(meterRegistry, "duplicate");
+        this.failedRecords = records(meterRegistry, "failed");
+    }
+
+    public ImportReport importFile(Path file, ImportFormat format, int lines, SummaryAlgorithm algorithm,
+                                   Consumer<ImportReport> progress) throws IOException {
+        Path checkpointFile = checkpointFile(file);
+        Checkpoint checkpoint = Checkpoint.read(checkpointFile);
+        long start = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (checkpoint.position > size) {
+                throw new IllegalStateException("O checkpoint " + checkpointFile + " não corresponde ao arquivo");
+            }
+            int column = format == ImportFormat.CSV ? textColumn(channel) : -1;
+            RecordReader reader = new RecordReader(channel, checkpoint.position, maxRecordBytes,
+                    format == ImportFormat.CSV);
+            if (format == ImportFormat.CSV && checkpoint.position == 0) {
+                reader.next();
+            }
+
+            long processed = 0;
+            List<String> chunk = new ArrayList<>(chunkSize);
+            boolean more = true;
+            while (more) {
+                chunk.clear();
+                int rejected = 0;
+                while (chunk.size() < chunkSize && (more = reader.next())) {
+                    String text = reader.record() == null ? null : extract(reader.record(), format, column);
+                    if (text == null || text.isBlank()) {
+                        rejected++;
+                    } else {
+                        chunk.add(text);
+                    }
+                }
+                if (chunk.isEmpty() && rejected == 0) {
+                    break;
+                }
+                ChunkResult result = save(chunk, lines, algorithm);
+                int duplicates = result.summarized() - result.inserted();
+                int failed = rejected + chunk.size() - result.summarized();
+
+                checkpoint = checkpoint.advance(reader.position(), result.inserted(), duplicates, failed);
+                checkpoint.write(checkpointFile);
+                processed += chunk.size() + rejected;
+                importedRecords.increment(result.inserted());
+                duplicateRecords.increment(duplicates);
+                failedRecords.increment(failed);
+                progress.accept(checkpoint.report(size, processed, Duration.ofNanos(System.nanoTime() - start)));
+            }
+            Files.deleteIfExists(checkpointFile);
+            return checkpoint.report(size, processed, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    static Path checkpointFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".checkpoint");
+    }
+
+    private ChunkResult save(List<String> texts, int lines, SummaryAlgorithm algorithm) {
+        List<CompletableFuture<String>> summaries = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            summaries.add(executor.supplyAsync(() -> summarizer.summarize(text, lines, algorithm, null)));
+        }
+        List<Text> toSave = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            try {
+                toSave.add(Text.builder()
+                        .text(texts.get(i))
+                        .textReduced(summaries.get(i).join())
+                        .contentHash(ContentHash.of(texts.get(i)))
+                        .build());
+            } catch (CompletionException e) {
+                // Conta como falha; os demais textos do lote seguem
+            }
+        }
+        return new ChunkResult(toSave.size(), toSave.isEmpty() ? 0 : copyRepository.copy(toSave));
+    }
+
+    private String extract(String record, ImportFormat format, int column) {
+        if (format == ImportFormat.CSV) {
+            List<String> fields = csvFields(record);
+            return column < fields.size() ? fields.get(column) : null;
+        }
+        try {
+            JsonNode text = objectMapper.readTree(record).get(TEXT_FIELD);
+            return text != null && text.isTextual() ? text.asText() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private int textColumn(FileChannel channel) throws IOException {
+        RecordReader header = new RecordReader(channel, 0, maxRecordBytes, true);
+        if (!header.next() || header.record() == null) {
+            throw new IllegalArgumentException("O CSV precisa de um cabeçalho com a coluna \"" + TEXT_FIELD + "\"");
+        }
+        int column = csvFields(header.record()).stream().map(String::trim).toList().indexOf(TEXT_FIELD);
+        if (column < 0) {
+            throw new IllegalArgumentException("O CSV precisa de um cabeçalho com a coluna \"" + TEXT_FIELD + "\"");
+        }
+        return column;
+    }
+
+    static List<String> csvFields(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (inQuotes) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Counter records(MeterRegistry meterRegistry, String status) {
+        return Counter.builder("summarizer.import.records")
+                .description("Registros processados pela importação em massa")
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
+    private record ChunkResult(int summarized, int inserted) {
+    }
+
+    private record Checkpoint(long position, long imported, long duplicates, long failed) {
+
+        static Checkpoint read(Path file) throws IOException {
+            if (!Files.exists(file)) {
+                return new Checkpoint(0, 0, 0, 0);
+            }
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            }
+            return new Checkpoint(Long.parseLong(properties.getProperty("position")),
+                    Long.parseLong(properties.getProperty("imported")),
+                    Long.parseLong(properties.getProperty("duplicates")),
+                    Long.parseLong(properties.getProperty("failed")));
+        }
+
+        Checkpoint advance(long position, long imported, long duplicates, long failed) {
+            return new Checkpoint(position, this.imported + imported, this.duplicates + duplicates, this.failed + failed);
+        }
+
+        /**
+         * Grava em um arquivo temporário e o move por cima do anterior, para nunca deixar um checkpoint pela metade.
+         */
+        void write(Path file) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("position", Long.toString(position));
+            properties.setProperty("imported", Long.toString(imported));
+            properties.setProperty("duplicates", Long.toString(duplicates));
+            properties.setProperty("failed", Long.toString(failed));
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporary)) {
+                properties.store(writer, null);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        ImportReport report(long size, long processed, Duration elapsed) {
+            return new ImportReport(imported, duplicates, failed, position, size, processed, elapsed);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package me.dio.bootcamp.project.service;
+
+public class TextNotFoundException extends RuntimeException {
+
+    public TextNotFoundException(Long id) {
+        super("Texto não encontrado com o ID: " + id);
+    }
+}
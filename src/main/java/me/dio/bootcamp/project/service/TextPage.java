@@ -0,0 +1,12 @@
+package me.dio.bootcamp.project.service;
+
+import me.dio.bootcamp.project.entity.Text;
+
+import java.util.List;
+
+/**
+ * Página de textos ordenada por id. {@code nextCursor} é o id a ser passado em {@code after}
+ * para buscar a próxima página, ou {@code null} quando não há mais registros.
+ */
+public record TextPage(List<Text> texts, Long nextCursor) {
+}
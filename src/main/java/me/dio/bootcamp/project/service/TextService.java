@@ -2,7 +2,12 @@ package me.dio.bootcamp.project.service;
 
 import me.dio.bootcamp.project.entity.Text;
 import me.dio.bootcamp.project.repository.TextRepository;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,61 +16,119 @@ public class TextService {
 
     private final TextRepository textRepository;
     private final TextSummarizer summarizer;
+    private final SentenceModelRegistry modelRegistry;
 
-    public TextService(TextRepository textRepository, TextSummarizer summarizer) {
+    public TextService(TextRepository textRepository, TextSummarizer summarizer, SentenceModelRegistry modelRegistry) {
         this.textRepository = textRepository;
         this.summarizer = summarizer;
+        this.modelRegistry = modelRegistry;
     }
 
-    public Text saveText(String originalText, int lines) {
-        String summarizedText = summarizer.summarize(originalText, lines);
+    public Text saveText(String originalText, int lines, SummaryAlgorithm algorithm, String language) {
+        String summarizedText = summarizer.summarize(originalText, lines, algorithm, language);
 
         Text text = new Text();
         text.setText(originalText);
         text.setTextReduced(summarizedText);
+        text.setContentHash(ContentHash.of(originalText));
 
-        return textRepository.save(text);
+        try {
+            return textRepository.save(text);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOr(text.getContentHash(), e);
+        }
     }
+
+    @Transactional(readOnly = true)
     public List<Text> findByContent(String text) {
-        return textRepository.findByTextContainingIgnoreCase(text);
+        return textRepository.searchByContent(escapeLike(text));
     }
 
-    public List<Text> findAll() {
-        return textRepository.findAll();
+    @Transactional(readOnly = true)
+    public TextPage findPage(long after, int limit) {
+        List<Text> texts = textRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit + 1));
+        if (texts.size() <= limit) {
+            return new TextPage(texts, null);
+        }
+        List<Text> page = texts.subList(0, limit);
+        return new TextPage(page, page.get(limit - 1).getId());
     }
 
+    /**
+     * Busca no primário, e não na réplica: o texto lido aqui vai para o cache de segundo nível, e uma
+     * linha atrasada da réplica ficaria em cache até expirar, não só durante o atraso.
+     */
     public Optional<Text> findById(Long id) {
         return textRepository.findById(id);
     }
 
-    public Text updateText(Long id, String newText, int lines) {
-        Optional<Text> optionalText = textRepository.findById(id);
-
-        if (optionalText.isPresent()) {
-            Text text = optionalText.get();
-            String summarizedText = summarizer.summarize(newText, lines);
+    /**
+     * Resumo lead com as primeiras {@code lines} sentenças, recortado pelas fronteiras gravadas.
+     * Só o primeiro pedido por texto roda a detecção de sentenças, com o modelo de {@code language} ou,
+     * se ele for nulo, do idioma detectado; os demais não usam o modelo.
+     */
+    public Optional<String> summarize(Long id, int lines, String language) {
+        return textRepository.findById(id).map(text -> {
+            byte[] offsets = text.getSentenceOffsets();
+            if (offsets == null) {
+                offsets = sentenceOffsets(text.getText(), modelRegistry.resolve(language, text.getText()));
+                try {
+                    textRepository.saveSentenceOffsets(id, text.getText(), offsets);
+                } catch (OptimisticLockingFailureException e) {
+                    // O texto mudou enquanto as fronteiras eram calculadas; o próximo pedido recalcula
+                }
+            }
+            return SentenceOffsets.slice(text.getText(), offsets, lines);
+        });
+    }
 
-            text.setText(newText);
-            text.setTextReduced(summarizedText);
+    /**
+     * Com o cache de segundo nível, a busca e o merge não vão ao banco quando o texto está em cache:
+     * sobra um único {@code UPDATE}, que também atualiza a entrada do cache. Se o texto não estiver
+     * em cache (expirou, foi removido ou o cache está frio), a busca faz um {@code SELECT} antes.
+     */
+    public Text updateText(Long id, String newText, int lines, SummaryAlgorithm algorithm, String language) {
+        Text text = textRepository.findById(id).orElseThrow(() -> new TextNotFoundException(id));
+        // Resolvido uma vez: o resumo e as fronteiras gravadas vêm do mesmo modelo
+        String resolved = modelRegistry.resolve(language, newText);
+        String summarizedText = summarizer.summarize(newText, lines, algorithm, resolved);
+
+        text.setText(newText);
+        text.setTextReduced(summarizedText);
+        text.setContentHash(ContentHash.of(newText));
+        // Calculadas aqui, e não anuladas: com @DynamicUpdate um null igual ao carregado não seria
+        // gravado, e fronteiras do texto antigo gravadas por um resumo concorrente ficariam
+        text.setSentenceOffsets(sentenceOffsets(newText, resolved));
 
+        try {
             return textRepository.save(text);
-        } else {
-            throw new RuntimeException("Texto não encontrado com o ID: " + id);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOr(text.getContentHash(), e);
         }
     }
 
+    /**
+     * Como em {@link #updateText}, a busca só evita o {@code SELECT} quando o texto está em cache;
+     * sem ele, são dois comandos.
+     */
     public void deleteText(Long id) {
-        if (textRepository.existsById(id)) {
-            textRepository.deleteById(id);
-        } else {
-            throw new RuntimeException("Texto não encontrado com o ID: " + id);
-        }
+        Text text = textRepository.findById(id).orElseThrow(() -> new TextNotFoundException(id));
+        textRepository.delete(text);
     }
 
     public boolean existsByText(String text) {
-        return !textRepository.findByTextContainingIgnoreCase(text).isEmpty();
+        return textRepository.existsByContentHash(ContentHash.of(text));
     }
 
+    private byte[] sentenceOffsets(String text, String language) {
+        return SentenceOffsets.encode(modelRegistry.detectors(language).sentPosDetect(text));
+    }
 
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 
+    private RuntimeException duplicateOr(String contentHash, DataIntegrityViolationException e) {
+        return textRepository.existsByContentHash(contentHash) ? new DuplicateTextException() : e;
+    }
 }
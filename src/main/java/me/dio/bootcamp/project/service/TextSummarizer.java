@@ -1,34 +1,107 @@
 package me.dio.bootcamp.project.service;
 
-import opennlp.tools.sentdetect.SentenceDetectorME;
-import opennlp.tools.sentdetect.SentenceModel;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.dio.bootcamp.project.service.strategy.SummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Resume textos com a estratégia pedida, passando pelo {@link SummaryCache}.
+ * <p>
+ * Com {@code summarizer.sentence-splitter=rules}, os textos em português são divididos pelo
+ * {@link RuleBasedSentenceSplitter}, que só recorre ao modelo nos textos ambíguos. Os demais idiomas
+ * usam sempre o modelo.
+ */
 @Service
 public class TextSummarizer {
 
-    SentenceDetectorME sentenceDetector;
+    private final Map<SummaryAlgorithm, SummarizationStrategy> strategies = new EnumMap<>(SummaryAlgorithm.class);
+    private final Map<SummaryAlgorithm, Timer> timers = new EnumMap<>(SummaryAlgorithm.class);
+    private final Map<SummaryAlgorithm, DistributionSummary> compressionRatios = new EnumMap<>(SummaryAlgorithm.class);
+    private final DistributionSummary inputSize;
+    private final SummaryCache summaryCache;
+    private final SentenceModelRegistry modelRegistry;
+    private final SentenceSplitterMode splitterMode;
+    private final RuleBasedSentenceSplitter rules;
 
-    public TextSummarizer() throws IOException {
-        try (InputStream modelIn = getClass().getResourceAsStream("/models/pt-sent.bin")) {
-            if (modelIn == null) {
-                throw new IOException("Modelo de detecção de sentenças não encontrado!");
-            }
-            SentenceModel model = new SentenceModel(modelIn);
-            this.sentenceDetector = new SentenceDetectorME(model);
+    public TextSummarizer(List<SummarizationStrategy> strategies, SummaryCache summaryCache,
+                          SentenceModelRegistry modelRegistry,
+                          @Value("${summarizer.sentence-splitter:model}") String splitterMode,
+                          MeterRegistry meterRegistry) {
+        this.summaryCache = summaryCache;
+        this.modelRegistry = modelRegistry;
+        this.splitterMode = SentenceSplitterMode.from(splitterMode);
+        this.rules = new RuleBasedSentenceSplitter(meterRegistry);
+        this.inputSize = DistributionSummary.builder("summarizer.input.size")
+                .description("Tamanho dos textos recebidos para resumo")
+                .baseUnit("chars")
+                .register(meterRegistry);
+        for (SummarizationStrategy strategy : strategies) {
+            this.strategies.put(strategy.algorithm(), strategy);
+            this.timers.put(strategy.algorithm(), Timer.builder("summarizer.strategy")
+                    .description("Tempo gasto por cada estratégia para resumir um texto")
+                    .tag("algorithm", strategy.algorithm().id())
+                    .register(meterRegistry));
+            this.compressionRatios.put(strategy.algorithm(), DistributionSummary.builder("summarizer.compression.ratio")
+                    .description("Tamanho do resumo em relação ao texto original")
+                    .baseUnit("percent")
+                    .tag("algorithm", strategy.algorithm().id())
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(100.0)
+                    .register(meterRegistry));
         }
     }
 
-    public String summarize(String text, int lines) {
-        String[] sentences = sentenceDetector.sentDetect(text);
-        int maxSentences = Math.min(sentences.length, lines);
-        StringBuilder summary = new StringBuilder();
-        for (int i = 0; i < maxSentences; i++) {
-            summary.append(sentences[i]).append(" ");
+    /**
+     * Resume o texto com o modelo de sentenças de {@code language} ou, se ele for nulo, do idioma
+     * detectado no texto.
+     *
+     * @throws UnsupportedLanguageException se não houver modelo para o idioma pedido
+     */
+    public String summarize(String text, int lines, SummaryAlgorithm algorithm, String language) {
+        SummarizationStrategy strategy = strategies.get(algorithm);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Algoritmo de sumarização não disponível: " + algorithm.id());
         }
-        return summary.toString().trim();
+        String resolved = modelRegistry.resolve(language, text);
+        String summary = summaryCache.get(text, lines, algorithm, resolved,
+                () -> timers.get(algorithm).record(() -> build(strategy, text, lines, resolved)));
+
+        inputSize.record(text.length());
+        if (!text.isEmpty()) {
+            compressionRatios.get(algorithm).record(100.0 * summary.length() / text.length());
+        }
+        return summary;
+    }
+
+    private String build(SummarizationStrategy strategy, String text, int lines, String language) {
+        SummaryBuildEvent event = new SummaryBuildEvent();
+        event.begin();
+        String summary = strategy.summarize(text, lines, splitter(language));
+        if (event.shouldCommit()) {
+            event.algorithm = strategy.algorithm().id();
+            event.language = language;
+            event.splitter = splitterMode.id();
+            event.lines = lines;
+            event.inputLength = text.length();
+            event.summaryLength = summary.length();
+            event.commit();
+        }
+        return summary;
+    }
+
+    private SentenceSplitter splitter(String language) {
+        SentenceDetectorPool detectors = modelRegistry.detectors(language);
+        if (splitterMode == SentenceSplitterMode.RULES && RuleBasedSentenceSplitter.LANGUAGE.equals(language)) {
+            return rules.withFallback(detectors);
+        }
+        return detectors;
     }
 }
@@ -0,0 +1,19 @@
+package me.dio.bootcamp.project.service;
+
+import java.util.Collection;
+import java.util.List;
+
+public class UnsupportedLanguageException extends RuntimeException {
+
+    public UnsupportedLanguageException(String language, Collection<String> installed) {
+        super("Idioma não suportado: " + language + ". Use " + options(installed) + ".");
+    }
+
+    private static String options(Collection<String> installed) {
+        List<String> sorted = installed.stream().sorted().toList();
+        if (sorted.size() == 1) {
+            return sorted.get(0);
+        }
+        return String.join(", ", sorted.subList(0, sorted.size() - 1)) + " ou " + sorted.get(sorted.size() - 1);
+    }
+}
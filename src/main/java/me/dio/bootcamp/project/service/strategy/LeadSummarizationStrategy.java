@@ -0,0 +1,27 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import me.dio.bootcamp.project.service.SentenceSplitter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Devolve as primeiras sentenças do texto. A detecção para assim que encontra as {@code lines}
+ * sentenças, então o custo acompanha o tamanho do resumo e não o do documento.
+ */
+@Component
+public class LeadSummarizationStrategy implements SummarizationStrategy {
+
+    @Override
+    public SummaryAlgorithm algorithm() {
+        return SummaryAlgorithm.LEAD;
+    }
+
+    @Override
+    public String summarize(String text, int lines, SentenceSplitter splitter) {
+        String[] sentences = splitter.firstSentences(text, lines);
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < sentences.length; i++) {
+            summary.append(sentences[i]).append(" ");
+        }
+        return summary.toString().trim();
+    }
+}
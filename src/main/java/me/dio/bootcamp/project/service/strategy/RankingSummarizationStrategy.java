@@ -0,0 +1,61 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import me.dio.bootcamp.project.service.SentenceSplitter;
+
+/**
+ * Base das estratégias que pontuam cada sentença e escolhem as {@code lines} de maior
+ * pontuação, mantendo a ordem original do texto. Empates favorecem a sentença que aparece antes.
+ * <p>
+ * Só as primeiras {@value #MAX_RANKED_SENTENCES} sentenças concorrem: a matriz do TextRank é
+ * quadrática no número de sentenças, e um texto de 10 MB pode ter dezenas de milhares delas.
+ */
+abstract class RankingSummarizationStrategy implements SummarizationStrategy {
+
+    static final int MAX_RANKED_SENTENCES = 1000;
+
+    private static final ThreadLocal<RankingWorkspace> WORKSPACE = ThreadLocal.withInitial(RankingWorkspace::new);
+
+    @Override
+    public String summarize(String text, int lines, SentenceSplitter splitter) {
+        String[] sentences = splitter.sentDetect(text);
+        boolean keepAll = sentences.length <= lines;
+        RankingWorkspace workspace = WORKSPACE.get();
+        try {
+            int ranked = keepAll ? 0 : Math.min(sentences.length, MAX_RANKED_SENTENCES);
+            if (!keepAll) {
+                workspace.index(sentences, ranked);
+                score(workspace);
+                select(workspace, Math.min(lines, ranked));
+            }
+
+            StringBuilder summary = new StringBuilder();
+            for (int s = 0; s < sentences.length; s++) {
+                if (keepAll || s < ranked && workspace.selected[s]) {
+                    summary.append(sentences[s]).append(" ");
+                }
+            }
+            return summary.toString().trim();
+        } finally {
+            workspace.trim();
+        }
+    }
+
+    /**
+     * Preenche {@code workspace.scores[0..sentenceCount)} com a pontuação de cada sentença.
+     */
+    abstract void score(RankingWorkspace workspace);
+
+    private static void select(RankingWorkspace workspace, int lines) {
+        double[] scores = workspace.scores;
+        boolean[] selected = workspace.selected;
+        for (int picked = 0; picked < lines; picked++) {
+            int best = -1;
+            for (int s = 0; s < workspace.sentenceCount; s++) {
+                if (!selected[s] && (best < 0 || scores[s] > scores[best])) {
+                    best = s;
+                }
+            }
+            selected[best] = true;
+        }
+    }
+}
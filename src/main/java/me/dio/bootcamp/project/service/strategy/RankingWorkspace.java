@@ -0,0 +1,179 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Buffers reutilizáveis para ranquear as sentenças de um texto. Cada thread mantém o seu,
+ * e os arrays crescem conforme o texto, então ranquear textos de tamanho parecido não aloca
+ * nada além dos termos novos do dicionário. Depois de um texto grande, {@link #trim()} devolve
+ * os buffers ao tamanho inicial para que a thread não retenha a matriz do TextRank.
+ */
+final class RankingWorkspace {
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    /** Limites acima dos quais {@link #trim()} descarta os buffers; a matriz retida fica em 512 KB. */
+    static final int RETAINED_SENTENCES = 256;
+    static final int RETAINED_TERMS = 4096;
+    static final int RETAINED_TOKENS = 16384;
+
+    private static final TermIndex STOPWORDS = TermIndex.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "do", "da", "dos", "das", "em", "no", "na",
+            "nos", "nas", "por", "para", "pelo", "pela", "pelos", "pelas", "com", "sem", "sob", "sobre", "entre",
+            "e", "ou", "mas", "que", "se", "como", "mais", "menos", "muito", "muita", "também", "já", "não", "sim",
+            "ao", "aos", "à", "às", "é", "são", "foi", "ser", "está", "estão", "era", "tem", "têm", "há",
+            "ele", "ela", "eles", "elas", "isso", "isto", "este", "esta", "esse", "essa", "seu", "sua", "seus",
+            "suas", "lhe", "me", "te", "nós", "vós", "eu", "tu", "você", "quando", "onde", "qual", "quais");
+
+    TermIndex terms = new TermIndex(256);
+
+    int sentenceCount;
+    int tokenCount;
+
+    /** Ids dos termos na ordem do texto. */
+    int[] tokens = new int[512];
+    /** Posição em {@link #tokens} onde cada sentença começa; a sentença {@code s} vai até {@code sentenceStart[s + 1]}. */
+    int[] sentenceStart = new int[65];
+
+    int[] termFrequency = new int[256];
+    int[] documentFrequency = new int[256];
+    double[] inverseDocumentFrequency = new double[256];
+    int[] termScratch = new int[256];
+    int[] termScratch2 = new int[256];
+
+    double[] scores = new double[64];
+    double[] sentenceScratch = new double[64];
+    double[] sentenceScratch2 = new double[64];
+    double[] matrix = new double[64 * 64];
+    boolean[] selected = new boolean[64];
+
+    private char[] buffer = new char[32];
+
+    /**
+     * Indexa as {@code count} primeiras sentenças.
+     */
+    void index(String[] sentences, int count) {
+        terms.clear();
+        sentenceCount = count;
+        tokenCount = 0;
+        sentenceStart = ensure(sentenceStart, sentenceCount + 1);
+        for (int s = 0; s < sentenceCount; s++) {
+            sentenceStart[s] = tokenCount;
+            tokenize(sentences[s]);
+        }
+        sentenceStart[sentenceCount] = tokenCount;
+
+        int termCount = terms.size();
+        termFrequency = ensure(termFrequency, termCount);
+        documentFrequency = ensure(documentFrequency, termCount);
+        inverseDocumentFrequency = ensure(inverseDocumentFrequency, termCount);
+        termScratch = ensure(termScratch, termCount);
+        termScratch2 = ensure(termScratch2, termCount);
+        Arrays.fill(termFrequency, 0, termCount, 0);
+        Arrays.fill(documentFrequency, 0, termCount, 0);
+        Arrays.fill(termScratch, 0, termCount, -1);
+
+        for (int s = 0; s < sentenceCount; s++) {
+            for (int i = sentenceStart[s]; i < sentenceStart[s + 1]; i++) {
+                int term = tokens[i];
+                termFrequency[term]++;
+                if (termScratch[term] != s) {
+                    termScratch[term] = s;
+                    documentFrequency[term]++;
+                }
+            }
+        }
+        for (int term = 0; term < termCount; term++) {
+            inverseDocumentFrequency[term] = Math.log(1.0 + (double) sentenceCount / documentFrequency[term]);
+        }
+        Arrays.fill(termScratch, 0, termCount, 0);
+        Arrays.fill(termScratch2, 0, termCount, 0);
+
+        scores = ensure(scores, sentenceCount);
+        sentenceScratch = ensure(sentenceScratch, sentenceCount);
+        sentenceScratch2 = ensure(sentenceScratch2, sentenceCount);
+        selected = ensure(selected, sentenceCount);
+        Arrays.fill(scores, 0, sentenceCount, 0.0);
+        Arrays.fill(selected, 0, sentenceCount, false);
+    }
+
+    /**
+     * Descarta os buffers que cresceram além dos limites retidos.
+     */
+    void trim() {
+        if (matrix.length > RETAINED_SENTENCES * RETAINED_SENTENCES) {
+            matrix = new double[64 * 64];
+        }
+        if (scores.length > RETAINED_SENTENCES) {
+            sentenceStart = new int[65];
+            scores = new double[64];
+            sentenceScratch = new double[64];
+            sentenceScratch2 = new double[64];
+            selected = new boolean[64];
+        }
+        if (tokens.length > RETAINED_TOKENS) {
+            tokens = new int[512];
+        }
+        if (termFrequency.length > RETAINED_TERMS) {
+            terms = new TermIndex(256);
+            termFrequency = new int[256];
+            documentFrequency = new int[256];
+            inverseDocumentFrequency = new double[256];
+            termScratch = new int[256];
+            termScratch2 = new int[256];
+        }
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    int sentenceLength(int sentence) {
+        return sentenceStart[sentence + 1] - sentenceStart[sentence];
+    }
+
+    double[] matrix(int size) {
+        if (matrix.length < size) {
+            matrix = new double[size];
+        }
+        return matrix;
+    }
+
+    private void tokenize(String sentence) {
+        int length = 0;
+        for (int i = 0, n = sentence.length(); i <= n; i++) {
+            char c = i < n ? sentence.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, length * 2);
+                }
+                buffer[length++] = Character.toLowerCase(c);
+            } else if (length > 0) {
+                addToken(length);
+                length = 0;
+            }
+        }
+    }
+
+    private void addToken(int length) {
+        if (length < MIN_TERM_LENGTH || STOPWORDS.contains(buffer, length)) {
+            return;
+        }
+        if (tokenCount == tokens.length) {
+            tokens = Arrays.copyOf(tokens, tokenCount * 2);
+        }
+        tokens[tokenCount++] = terms.getOrAdd(buffer, length);
+    }
+
+    private static int[] ensure(int[] array, int size) {
+        return array.length >= size ? array : new int[Math.max(size, array.length * 2)];
+    }
+
+    private static double[] ensure(double[] array, int size) {
+        return array.length >= size ? array : new double[Math.max(size, array.length * 2)];
+    }
+
+    private static boolean[] ensure(boolean[] array, int size) {
+        return array.length >= size ? array : new boolean[Math.max(size, array.length * 2)];
+    }
+}
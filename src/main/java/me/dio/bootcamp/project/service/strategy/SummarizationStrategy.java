@@ -0,0 +1,18 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import me.dio.bootcamp.project.service.SentenceSplitter;
+
+/**
+ * Estratégia de sumarização extrativa: escolhe até {@code lines} sentenças do texto e as
+ * devolve na ordem em que aparecem, separadas por espaço.
+ */
+public interface SummarizationStrategy {
+
+    SummaryAlgorithm algorithm();
+
+    /**
+     * Resume dividindo o texto com {@code splitter}: o pool do idioma do texto ou, no modo por regras,
+     * o {@code RuleBasedSentenceSplitter} sobre ele.
+     */
+    String summarize(String text, int lines, SentenceSplitter splitter);
+}
@@ -0,0 +1,21 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import java.util.Locale;
+
+public enum SummaryAlgorithm {
+    LEAD,
+    TFIDF,
+    TEXTRANK;
+
+    public static SummaryAlgorithm from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Algoritmo inválido: " + value + ". Use lead, tfidf ou textrank.");
+        }
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,100 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de termos para ids inteiros sequenciais, com endereçamento aberto e consulta direta
+ * sobre um {@code char[]}, sem criar {@link String} para termos já conhecidos.
+ */
+final class TermIndex {
+
+    private char[][] keys;
+    private int[] ids;
+    private int mask;
+    private int size;
+
+    TermIndex(int expectedTerms) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedTerms * 2) - 1) << 1;
+        this.keys = new char[capacity][];
+        this.ids = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    static TermIndex of(String... terms) {
+        TermIndex index = new TermIndex(terms.length);
+        for (String term : terms) {
+            index.getOrAdd(term.toCharArray(), term.length());
+        }
+        return index;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(char[] buffer, int length) {
+        return get(buffer, length) >= 0;
+    }
+
+    int get(char[] buffer, int length) {
+        for (int slot = hash(buffer, length) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(keys[slot], buffer, length)) {
+                return ids[slot];
+            }
+        }
+        return -1;
+    }
+
+    int getOrAdd(char[] buffer, int length) {
+        int slot = hash(buffer, length) & mask;
+        for (; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(keys[slot], buffer, length)) {
+                return ids[slot];
+            }
+        }
+        keys[slot] = Arrays.copyOf(buffer, length);
+        ids[slot] = size;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return size - 1;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            size = 0;
+        }
+    }
+
+    private void grow() {
+        char[][] oldKeys = keys;
+        int[] oldIds = ids;
+        keys = new char[oldKeys.length * 2][];
+        ids = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            char[] key = oldKeys[i];
+            if (key != null) {
+                int slot = hash(key, key.length) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                ids[slot] = oldIds[i];
+            }
+        }
+    }
+
+    private static boolean matches(char[] key, char[] buffer, int length) {
+        return key.length == length && Arrays.equals(key, 0, length, buffer, 0, length);
+    }
+
+    private static int hash(char[] buffer, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
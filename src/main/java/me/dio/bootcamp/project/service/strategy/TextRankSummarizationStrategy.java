@@ -0,0 +1,92 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * TextRank (Mihalcea e Tarau, 2004): monta um grafo em que o peso entre duas sentenças é o
+ * número de termos em comum normalizado pelo tamanho delas, e aplica PageRank para encontrar
+ * as sentenças mais centrais.
+ */
+@Component
+public class TextRankSummarizationStrategy extends RankingSummarizationStrategy {
+
+    private static final double DAMPING = 0.85;
+    private static final double TOLERANCE = 1e-4;
+    private static final int MAX_ITERATIONS = 50;
+
+    @Override
+    public SummaryAlgorithm algorithm() {
+        return SummaryAlgorithm.TEXTRANK;
+    }
+
+    @Override
+    void score(RankingWorkspace workspace) {
+        int n = workspace.sentenceCount;
+        double[] weights = workspace.matrix(n * n);
+        double[] outWeight = workspace.sentenceScratch;
+        buildGraph(workspace, weights, outWeight);
+
+        double[] rank = workspace.scores;
+        double[] next = workspace.sentenceScratch2;
+        Arrays.fill(rank, 0, n, 1.0);
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double delta = 0;
+            for (int i = 0; i < n; i++) {
+                double sum = 0;
+                for (int j = 0; j < n; j++) {
+                    double weight = weights[j * n + i];
+                    if (weight > 0) {
+                        sum += weight / outWeight[j] * rank[j];
+                    }
+                }
+                next[i] = (1 - DAMPING) + DAMPING * sum;
+                delta = Math.max(delta, Math.abs(next[i] - rank[i]));
+            }
+            System.arraycopy(next, 0, rank, 0, n);
+            if (delta < TOLERANCE) {
+                break;
+            }
+        }
+    }
+
+    private static void buildGraph(RankingWorkspace workspace, double[] weights, double[] outWeight) {
+        int n = workspace.sentenceCount;
+        int[] tokens = workspace.tokens;
+        int[] inSentence = workspace.termScratch;
+        int[] counted = workspace.termScratch2;
+        int pair = 0;
+
+        Arrays.fill(outWeight, 0, n, 0.0);
+        for (int i = 0; i < n; i++) {
+            weights[i * n + i] = 0;
+            int lengthI = workspace.sentenceLength(i);
+            // Os carimbos começam em 1 porque os arrays de rascunho chegam zerados
+            for (int t = workspace.sentenceStart[i]; t < workspace.sentenceStart[i + 1]; t++) {
+                inSentence[tokens[t]] = i + 1;
+            }
+            for (int j = i + 1; j < n; j++) {
+                int lengthJ = workspace.sentenceLength(j);
+                double norm = Math.log(lengthI) + Math.log(lengthJ);
+                double weight = 0;
+                if (lengthI > 0 && lengthJ > 0 && norm > 0) {
+                    int common = 0;
+                    pair++;
+                    for (int t = workspace.sentenceStart[j]; t < workspace.sentenceStart[j + 1]; t++) {
+                        int term = tokens[t];
+                        if (inSentence[term] == i + 1 && counted[term] != pair) {
+                            counted[term] = pair;
+                            common++;
+                        }
+                    }
+                    weight = common / norm;
+                }
+                weights[i * n + j] = weight;
+                weights[j * n + i] = weight;
+                outWeight[i] += weight;
+                outWeight[j] += weight;
+            }
+        }
+    }
+}
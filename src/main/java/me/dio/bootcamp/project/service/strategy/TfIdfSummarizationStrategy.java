@@ -0,0 +1,54 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Pontua cada sentença pela similaridade de cosseno entre seu vetor TF-IDF e o centróide
+ * TF-IDF do texto inteiro, favorecendo as sentenças mais representativas do conteúdo.
+ */
+@Component
+public class TfIdfSummarizationStrategy extends RankingSummarizationStrategy {
+
+    @Override
+    public SummaryAlgorithm algorithm() {
+        return SummaryAlgorithm.TFIDF;
+    }
+
+    @Override
+    void score(RankingWorkspace workspace) {
+        int[] tokens = workspace.tokens;
+        int[] counts = workspace.termScratch;
+        int[] termFrequency = workspace.termFrequency;
+        double[] idf = workspace.inverseDocumentFrequency;
+
+        double centroidNorm = 0;
+        for (int term = 0; term < workspace.termCount(); term++) {
+            double weight = termFrequency[term] * idf[term];
+            centroidNorm += weight * weight;
+        }
+        centroidNorm = Math.sqrt(centroidNorm);
+        if (centroidNorm == 0) {
+            return;
+        }
+
+        for (int s = 0; s < workspace.sentenceCount; s++) {
+            int start = workspace.sentenceStart[s];
+            int end = workspace.sentenceStart[s + 1];
+            for (int i = start; i < end; i++) {
+                counts[tokens[i]]++;
+            }
+            double dot = 0;
+            double norm = 0;
+            for (int i = start; i < end; i++) {
+                int term = tokens[i];
+                if (counts[term] > 0) {
+                    double weight = counts[term] * idf[term];
+                    dot += weight * termFrequency[term] * idf[term];
+                    norm += weight * weight;
+                    counts[term] = 0;
+                }
+            }
+            workspace.scores[s] = norm == 0 ? 0 : dot / (Math.sqrt(norm) * centroidNorm);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+ALTER TABLE text ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE text_seq INCREMENT BY 50;
+
+SELECT setval('text_seq', COALESCE((SELECT MAX(id) FROM text), 0) + 50, false);
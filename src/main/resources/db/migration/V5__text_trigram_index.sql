@@ -0,0 +1,3 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX text_text_trgm_idx ON text USING gin (text gin_trgm_ops);
@@ -0,0 +1,2 @@
+-- Fronteiras das sentenças em varints compactados (ver SentenceOffsets); NULL até o primeiro resumo sob demanda
+ALTER TABLE text ADD COLUMN sentence_offsets BYTEA;
@@ -0,0 +1,2 @@
+-- Versão para lock otimista e ETags; incrementada pelo Hibernate a cada alteração do texto
+ALTER TABLE text ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,79 @@
+package db.migration;
+
+import me.dio.bootcamp.project.service.ContentHash;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TextContentHashMigrationTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:content-hash;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE text (id BIGINT PRIMARY KEY, text VARCHAR(255))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testMigrateHashesInJavaAndKeepsOnlyTheOldestDuplicate() throws Exception {
+        // Arrange: "É" e "é" só coincidem se a minúscula vier do Java, e não do locale do banco
+        insert(1, "É o primeiro texto.");
+        insert(2, "é   o primeiro texto.");
+        insert(3, "Outro texto.");
+        insert(4, null);
+        Context context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+
+        // Act
+        new V4__text_content_hash().migrate(context);
+
+        // Assert
+        assertEquals(List.of(ContentHash.of("É o primeiro texto."), "null", ContentHash.of("Outro texto."), "null"), hashes());
+        try (Statement statement = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> statement.execute(
+                    "INSERT INTO text (id, content_hash) VALUES (5, '" + ContentHash.of("Outro texto.") + "')"));
+        }
+    }
+
+    private void insert(long id, String text) throws SQLException {
+        try (var statement = connection.prepareStatement("INSERT INTO text (id, text) VALUES (?, ?)")) {
+            statement.setLong(1, id);
+            statement.setString(2, text);
+            statement.executeUpdate();
+        }
+    }
+
+    private List<String> hashes() throws SQLException {
+        List<String> hashes = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT content_hash FROM text ORDER BY id")) {
+            while (rows.next()) {
+                hashes.add(String.valueOf(rows.getString(1)));
+            }
+        }
+        return hashes;
+    }
+}
@@ -0,0 +1,55 @@
+package me.dio.bootcamp.project;
+
+import me.dio.bootcamp.project.service.ImportFormat;
+import me.dio.bootcamp.project.service.ImportReport;
+import me.dio.bootcamp.project.service.TextImportService;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCommandTest {
+
+    @Mock
+    private TextImportService importService;
+
+    @Test
+    void testRunWithoutFileDoesNothing() throws Exception {
+        // Arrange
+        ImportCommand command = new ImportCommand(importService, "", 2, "lead");
+
+        // Act
+        command.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertFalse(command.isEnabled());
+        assertEquals(0, command.getExitCode());
+        verifyNoInteractions(importService);
+    }
+
+    @Test
+    void testRunWithFailedRecordsReportsExitCodeOne() throws Exception {
+        // Arrange
+        ImportCommand command = new ImportCommand(importService, "textos.jsonl", 3, "textrank");
+        when(importService.importFile(eq(Path.of("textos.jsonl")), eq(ImportFormat.JSONL), eq(3),
+                eq(SummaryAlgorithm.TEXTRANK), any()))
+                .thenReturn(new ImportReport(8, 1, 1, 10, 10, 10, Duration.ofSeconds(1)));
+
+        // Act
+        command.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertTrue(command.isEnabled());
+        assertEquals(1, command.getExitCode());
+    }
+}
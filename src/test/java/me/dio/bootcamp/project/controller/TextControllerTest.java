@@ -1,26 +1,58 @@
 package me.dio.bootcamp.project.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import me.dio.bootcamp.project.Controller.Mapper.TextMapper;
 import me.dio.bootcamp.project.Controller.Request.TextRequest;
+import me.dio.bootcamp.project.Controller.Response.TextResponse;
 import me.dio.bootcamp.project.Controller.TextController;
 import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.service.BatchItemResult;
+import me.dio.bootcamp.project.service.DuplicateTextException;
+import me.dio.bootcamp.project.service.ExportFormat;
+import me.dio.bootcamp.project.service.JobQueueFullException;
+import me.dio.bootcamp.project.service.SentenceModelRegistry;
+import me.dio.bootcamp.project.service.SummarizationJob;
+import me.dio.bootcamp.project.service.SummarizationJobService;
+import me.dio.bootcamp.project.service.SummarizationLimiter;
+import me.dio.bootcamp.project.service.SummarizationOverloadedException;
+import me.dio.bootcamp.project.service.TextBatchService;
+import me.dio.bootcamp.project.service.TextExportService;
+import me.dio.bootcamp.project.service.TextNotFoundException;
+import me.dio.bootcamp.project.service.TextPage;
 import me.dio.bootcamp.project.service.TextService;
+import me.dio.bootcamp.project.service.UnsupportedLanguageException;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -28,7 +60,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(TextController.class)
+@WebMvcTest(controllers = TextController.class, properties = "summarizer.upload.max-size=1KB")
 public class TextControllerTest {
 
     @Autowired
@@ -37,6 +69,21 @@ public class TextControllerTest {
     @MockBean
     private TextService textService;
 
+    @MockBean
+    private TextBatchService textBatchService;
+
+    @MockBean
+    private TextExportService textExportService;
+
+    @MockBean
+    private SummarizationJobService jobService;
+
+    @MockBean
+    private SummarizationLimiter limiter;
+
+    @MockBean
+    private SentenceModelRegistry modelRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -62,6 +109,7 @@ public class TextControllerTest {
                 .id(1L)
                 .text("Este é um texto de teste válido")
                 .textReduced("Este é um")
+                .version(3L)
                 .build();
     }
 
@@ -69,7 +117,7 @@ public class TextControllerTest {
     void saveText_WithValidRequest_ShouldReturnOk() throws Exception {
         // Given
         when(textService.existsByText(anyString())).thenReturn(false);
-        when(textService.saveText(anyString(), anyInt())).thenReturn(validTextWithReduced);
+        when(textService.saveText(anyString(), anyInt(), any(), any())).thenReturn(validTextWithReduced);
 
         // When & Then
         mockMvc.perform(post("/text/save")
@@ -81,7 +129,116 @@ public class TextControllerTest {
                 .andExpect(jsonPath("$.text", is("Este é um texto de teste válido")))
                 .andExpect(jsonPath("$.textReduced", is("Este é um")));
 
-        verify(textService).saveText(validTextRequest.text(), 2);
+        verify(textService).saveText(validTextRequest.text(), 2, SummaryAlgorithm.LEAD, null);
+    }
+
+    @Test
+    void saveText_WhenOverloaded_ShouldReturnServiceUnavailableWithRetryAfter() throws Exception {
+        // Given
+        when(textService.existsByText(anyString())).thenReturn(false);
+        when(limiter.acquire(anyString())).thenThrow(new SummarizationOverloadedException("Servidor sobrecarregado. Tente novamente em instantes."));
+
+        // When & Then
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(content().string("Servidor sobrecarregado. Tente novamente em instantes."));
+
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void saveText_ShouldAdmitByClientAddressIgnoringApiKey() throws Exception {
+        // Given
+        when(textService.existsByText(anyString())).thenReturn(false);
+        when(textService.saveText(anyString(), anyInt(), any(), any())).thenReturn(validTextWithReduced);
+
+        // When
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .header("X-API-Key", "cliente-a")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.7");
+                            return request;
+                        }))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .header("X-API-Key", "cliente-b")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.7");
+                            return request;
+                        }))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(limiter, times(2)).acquire("10.0.0.7");
+    }
+
+    @Test
+    void saveText_WithAlgorithm_ShouldSummarizeWithRequestedStrategy() throws Exception {
+        // Given
+        when(textService.existsByText(anyString())).thenReturn(false);
+        when(textService.saveText(anyString(), anyInt(), any(), any())).thenReturn(validTextWithReduced);
+
+        // When & Then
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("algorithm", "TextRank"))
+                .andExpect(status().isOk());
+
+        verify(textService).saveText(validTextRequest.text(), 2, SummaryAlgorithm.TEXTRANK, null);
+    }
+
+    @Test
+    void saveText_WithUnknownAlgorithm_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("algorithm", "lsa"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.algorithm", is("Algoritmo inválido: lsa. Use lead, tfidf ou textrank.")));
+
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void saveText_WithLanguage_ShouldSummarizeWithThatLanguage() throws Exception {
+        // Given
+        when(modelRegistry.requireInstalled("EN")).thenReturn("en");
+        when(textService.existsByText(anyString())).thenReturn(false);
+        when(textService.saveText(anyString(), anyInt(), any(), any())).thenReturn(validTextWithReduced);
+
+        // When & Then
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("language", "EN"))
+                .andExpect(status().isOk());
+
+        verify(textService).saveText(validTextRequest.text(), 2, SummaryAlgorithm.LEAD, "en");
+    }
+
+    @Test
+    void saveText_WithUnsupportedLanguage_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(modelRegistry.requireInstalled("fr")).thenThrow(new UnsupportedLanguageException("fr", Set.of("en", "pt")));
+
+        // When & Then
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("language", "fr"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.language", is("Idioma não suportado: fr. Use en ou pt.")));
+
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
     }
 
     @Test
@@ -97,7 +254,20 @@ public class TextControllerTest {
                         .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest());
 
-        verify(textService, never()).saveText(anyString(), anyInt());
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void saveText_WithNonPositiveLines_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("lines", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("O número de linhas deve ser maior que zero."));
+
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
     }
 
     @Test
@@ -112,7 +282,73 @@ public class TextControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Texto já existe no banco de dados."));
 
-        verify(textService, never()).saveText(anyString(), anyInt());
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void saveText_WhenConcurrentDuplicateIsInserted_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(textService.existsByText(anyString())).thenReturn(false);
+        when(textService.saveText(anyString(), anyInt(), any(), any())).thenThrow(new DuplicateTextException());
+
+        // When & Then
+        mockMvc.perform(post("/text/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Texto já existe no banco de dados."));
+    }
+
+    @Test
+    void saveTexts_WithValidBatch_ShouldReturnOutcomePerItem() throws Exception {
+        // Given
+        List<TextRequest> batch = List.of(validTextRequest, TextRequest.builder().text("Outro texto válido").build());
+        when(textBatchService.saveTexts(anyList(), eq(2), eq(SummaryAlgorithm.LEAD), isNull())).thenReturn(List.of(
+                BatchItemResult.saved(0, validTextWithReduced),
+                BatchItemResult.duplicate(1)
+        ));
+
+        // When & Then
+        mockMvc.perform(post("/text/save/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch))
+                        .param("lines", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].index", is(0)))
+                .andExpect(jsonPath("$[0].status", is("SAVED")))
+                .andExpect(jsonPath("$[0].text.id", is(1)))
+                .andExpect(jsonPath("$[0].text.textReduced", is("Este é um")))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is("DUPLICATE")))
+                .andExpect(jsonPath("$[1].message", is("Texto já existe no banco de dados.")));
+
+        verify(textBatchService).saveTexts(List.of("Este é um texto de teste válido", "Outro texto válido"), 2, SummaryAlgorithm.LEAD, null);
+    }
+
+    @Test
+    void saveTexts_WithInvalidItem_ShouldReturnBadRequest() throws Exception {
+        // Given
+        List<TextRequest> batch = List.of(validTextRequest, TextRequest.builder().text("").build());
+
+        // When & Then
+        mockMvc.perform(post("/text/save/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isBadRequest());
+
+        verify(textBatchService, never()).saveTexts(anyList(), anyInt(), any(), any());
+    }
+
+    @Test
+    void saveTexts_WithEmptyBatch_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/text/save/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(textBatchService, never()).saveTexts(anyList(), anyInt(), any(), any());
     }
 
     @Test
@@ -168,11 +404,12 @@ public class TextControllerTest {
     void findAllTexts_ShouldReturnAllTexts() throws Exception {
         // Given
         List<Text> texts = Arrays.asList(validText, validTextWithReduced);
-        when(textService.findAll()).thenReturn(texts);
+        when(textService.findPage(0L, 100)).thenReturn(new TextPage(texts, null));
 
         // When & Then
         mockMvc.perform(get("/text/find"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id", is(1)))
                 .andExpect(jsonPath("$[0].text", is("Este é um texto de teste válido")))
@@ -180,26 +417,102 @@ public class TextControllerTest {
                 .andExpect(jsonPath("$[1].text", is("Este é um texto de teste válido")))
                 .andExpect(jsonPath("$[1].textReduced", is("Este é um")));
 
-        verify(textService).findAll();
+        verify(textService).findPage(0L, 100);
+    }
+
+    @Test
+    void findAllTexts_WithSmileAccept_ShouldReturnSmile() throws Exception {
+        // Given
+        when(textService.findPage(0L, 100)).thenReturn(new TextPage(List.of(validText, validTextWithReduced), null));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/text/find").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn();
+
+        // Then
+        TextResponse[] response = new SmileMapper().readValue(result.getResponse().getContentAsByteArray(), TextResponse[].class);
+        assertEquals(List.of(TextMapper.toTextResponse(validText), TextMapper.toTextResponse(validTextWithReduced)),
+                List.of(response));
+    }
+
+    @Test
+    void findAllTexts_WithMorePages_ShouldReturnNextCursor() throws Exception {
+        // Given
+        Text second = Text.builder().id(2L).text("Segundo texto").build();
+        when(textService.findPage(1L, 1)).thenReturn(new TextPage(List.of(second), 2L));
+
+        // When & Then
+        mockMvc.perform(get("/text/find").param("after", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "2"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(2)));
+
+        verify(textService).findPage(1L, 1);
+    }
+
+    @Test
+    void findAllTexts_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutBody() throws Exception {
+        // Given
+        Text second = Text.builder().id(2L).text("Segundo texto").version(0L).build();
+        when(textService.findPage(1L, 1)).thenReturn(new TextPage(List.of(second), 2L));
+        String etag = mockMvc.perform(get("/text/find").param("after", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/text/find").param("after", "1").param("limit", "1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("X-Next-Cursor", "2"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void findAllTexts_WhenATextChanges_ShouldReturnANewETag() throws Exception {
+        // Given
+        Text second = Text.builder().id(2L).text("Segundo texto").version(0L).build();
+        when(textService.findPage(0L, 100)).thenReturn(new TextPage(List.of(second), null));
+        String etag = mockMvc.perform(get("/text/find"))
+                .andReturn().getResponse().getHeader("ETag");
+        second.setVersion(1L);
+
+        // When & Then
+        mockMvc.perform(get("/text/find").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void findAllTexts_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/text/find").param("limit", "1001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("O limite deve estar entre 1 e 1000."));
+
+        verify(textService, never()).findPage(anyLong(), anyInt());
     }
 
     @Test
     void findAllTexts_WhenNoTextsExist_ShouldReturnEmptyList() throws Exception {
         // Given
-        when(textService.findAll()).thenReturn(Collections.emptyList());
+        when(textService.findPage(0L, 100)).thenReturn(new TextPage(Collections.emptyList(), null));
 
         // When & Then
         mockMvc.perform(get("/text/find"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
 
-        verify(textService).findAll();
+        verify(textService).findPage(0L, 100);
     }
 
     @Test
     void findAllTexts_WithException_ShouldReturnInternalServerError() throws Exception {
         // Given
-        when(textService.findAll()).thenThrow(new RuntimeException("Database error"));
+        when(textService.findPage(anyLong(), anyInt())).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         mockMvc.perform(get("/text/find"))
@@ -207,6 +520,240 @@ public class TextControllerTest {
                 .andExpect(content().string(containsString("Erro ao buscar todos os textos: Database error")));
     }
 
+    @Test
+    void streamAllTexts_ShouldWriteTheNdjsonExportAfterTheCursor() throws Exception {
+        // Given
+        givenExport("{\"id\":2,\"text\":\"Outro texto\",\"textReduced\":null}\n");
+
+        // When
+        MvcResult result = mockMvc.perform(get("/text/find/stream").param("after", "1").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":2,\"text\":\"Outro texto\",\"textReduced\":null}\n"));
+
+        verify(textExportService).export(eq(1L), eq(ExportFormat.NDJSON), any());
+    }
+
+    @Test
+    void exportTexts_ShouldStreamNdjsonByDefault() throws Exception {
+        // Given
+        givenExport("{\"id\":1}\n");
+
+        // When
+        MvcResult result = mockMvc.perform(get("/text/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ExportFormat.NDJSON_VALUE))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"texts.ndjson\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("{\"id\":1}\n"));
+        verify(textExportService).export(eq(0L), eq(ExportFormat.NDJSON), any());
+    }
+
+    @Test
+    void exportTexts_AsGzippedCsvSinceId_ShouldCompressTheStream() throws Exception {
+        // Given
+        givenExport("id,text,textReduced\n6,Texto.,\n");
+
+        // When
+        MvcResult result = mockMvc.perform(get("/text/export")
+                        .param("format", "csv")
+                        .param("since-id", "5")
+                        .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ExportFormat.CSV_VALUE))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"texts.csv.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals("id,text,textReduced\n6,Texto.,\n", new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        verify(textExportService).export(eq(5L), eq(ExportFormat.CSV), any());
+    }
+
+    @Test
+    void exportTexts_WithInvalidFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/text/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.format", is("Formato inválido: xml. Use ndjson ou csv.")));
+        verifyNoInteractions(textExportService);
+    }
+
+    @Test
+    void saveLargeText_WithGzipBody_ShouldSaveTheDecompressedText() throws Exception {
+        // Given
+        String text = "Documento grande; com caracteres que /text/save recusaria: (parênteses) e \"aspas\".";
+        when(textService.existsByText(text)).thenReturn(false);
+        when(textService.saveText(eq(text), eq(1), eq(SummaryAlgorithm.LEAD), isNull())).thenReturn(validTextWithReduced);
+
+        // When & Then
+        mockMvc.perform(post("/text/save/stream")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .header("Content-Encoding", "gzip")
+                        .content(gzip(text))
+                        .param("lines", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)));
+
+        verify(textService).saveText(text, 1, SummaryAlgorithm.LEAD, null);
+        verify(limiter).acquireUnsampled(anyString());
+        verify(limiter, never()).acquire(anyString());
+    }
+
+    @Test
+    void saveLargeText_WhenDecompressedTextExceedsLimit_ShouldReturnPayloadTooLarge() throws Exception {
+        // When & Then: 2 KB descomprimidos, mas poucos bytes comprimidos
+        mockMvc.perform(post("/text/save/stream")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .header("Content-Encoding", "gzip")
+                        .content(gzip("a".repeat(2048))))
+                .andExpect(status().isPayloadTooLarge());
+
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void saveLargeText_WithNonPositiveLines_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/text/save/stream")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("Documento grande.")
+                        .param("lines", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("O número de linhas deve ser maior que zero."));
+
+        verify(textService, never()).saveText(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void saveLargeText_WithBlankBody_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/text/save/stream")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("  \n "))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Texto não pode ser vazio"));
+    }
+
+    @Test
+    void saveTextAsync_WithValidRequest_ShouldReturnAcceptedWithJobLocation() throws Exception {
+        // Given
+        UUID jobId = UUID.fromString("3f2c1a9e-7b4d-4c1e-9a51-2d6f0e8b7c10");
+        when(textService.existsByText(anyString())).thenReturn(false);
+        when(jobService.submit(anyString(), anyInt(), any(), any())).thenReturn(SummarizationJob.pending(jobId));
+
+        // When & Then
+        mockMvc.perform(post("/text/save/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("lines", "1"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/text/jobs/" + jobId))
+                .andExpect(jsonPath("$.id", is(jobId.toString())))
+                .andExpect(jsonPath("$.status", is("PENDING")));
+
+        verify(jobService).submit(validTextRequest.text(), 1, SummaryAlgorithm.LEAD, null);
+    }
+
+    @Test
+    void saveTextAsync_WhenQueueIsFull_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(textService.existsByText(anyString())).thenReturn(false);
+        when(jobService.submit(anyString(), anyInt(), any(), any())).thenThrow(new JobQueueFullException());
+
+        // When & Then
+        mockMvc.perform(post("/text/save/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(content().string("Fila de sumarização cheia. Tente novamente mais tarde."));
+    }
+
+    @Test
+    void saveTextAsync_WithExistingText_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(textService.existsByText(anyString())).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(post("/text/save/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest)))
+                .andExpect(status().isBadRequest());
+
+        verify(jobService, never()).submit(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void findJobById_WithFinishedJob_ShouldReturnSavedTextId() throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        when(jobService.findById(jobId)).thenReturn(Optional.of(SummarizationJob.pending(jobId).done(1L)));
+
+        // When & Then
+        mockMvc.perform(get("/text/jobs/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("DONE")))
+                .andExpect(jsonPath("$.textId", is(1)))
+                .andExpect(jsonPath("$.text").doesNotExist());
+    }
+
+    @Test
+    void findJobById_WithUnknownJob_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(jobService.findById(any())).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/text/jobs/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void summarizeText_WithExistingId_ShouldReturnTheRequestedLines() throws Exception {
+        // Given
+        when(textService.summarize(1L, 3, null)).thenReturn(Optional.of("Primeira. Segunda. Terceira."));
+
+        // When & Then
+        mockMvc.perform(get("/text/{id}/summary", 1L).param("lines", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.lines", is(3)))
+                .andExpect(jsonPath("$.summary", is("Primeira. Segunda. Terceira.")));
+    }
+
+    @Test
+    void summarizeText_WithNonExistingId_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(textService.summarize(99L, 2, null)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/text/{id}/summary", 99L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void summarizeText_WithInvalidLines_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/text/{id}/summary", 1L).param("lines", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(textService, never()).summarize(anyLong(), anyInt(), any());
+    }
+
     @Test
     void findTextById_WithExistingId_ShouldReturnText() throws Exception {
         // Given
@@ -215,6 +762,7 @@ public class TextControllerTest {
         // When & Then
         mockMvc.perform(get("/text/find/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.text", is("Este é um texto de teste válido")))
                 .andExpect(jsonPath("$.textReduced", is("Este é um")));
@@ -222,6 +770,46 @@ public class TextControllerTest {
         verify(textService).findById(1L);
     }
 
+    @Test
+    void findTextById_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutBody() throws Exception {
+        // Given
+        when(textService.findById(1L)).thenReturn(Optional.of(validTextWithReduced));
+
+        // When & Then
+        mockMvc.perform(get("/text/find/1").header("If-None-Match", "\"0-9\", W/\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void findTextById_WithStaleIfNoneMatch_ShouldReturnText() throws Exception {
+        // Given
+        when(textService.findById(1L)).thenReturn(Optional.of(validTextWithReduced));
+
+        // When & Then
+        mockMvc.perform(get("/text/find/1").header("If-None-Match", "\"1-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""))
+                .andExpect(jsonPath("$.textReduced", is("Este é um")));
+    }
+
+    @Test
+    void findTextById_WithCborAccept_ShouldReturnCbor() throws Exception {
+        // Given
+        when(textService.findById(1L)).thenReturn(Optional.of(validTextWithReduced));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/text/find/1").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn();
+
+        // Then
+        TextResponse response = new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), TextResponse.class);
+        assertEquals(TextMapper.toTextResponse(validTextWithReduced), response);
+    }
+
     @Test
     void findTextById_WithNonExistingId_ShouldReturnNotFound() throws Exception {
         // Given
@@ -249,7 +837,7 @@ public class TextControllerTest {
     @Test
     void updateText_WithValidRequest_ShouldReturnUpdatedText() throws Exception {
         // Given
-        when(textService.updateText(eq(1L), anyString(), anyInt())).thenReturn(validTextWithReduced);
+        when(textService.updateText(eq(1L), anyString(), anyInt(), any(), any())).thenReturn(validTextWithReduced);
 
         // When & Then
         mockMvc.perform(put("/text/update/1")
@@ -257,17 +845,18 @@ public class TextControllerTest {
                         .content(objectMapper.writeValueAsString(validTextRequest))
                         .param("lines", "2"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.text", is("Este é um texto de teste válido")))
                 .andExpect(jsonPath("$.textReduced", is("Este é um")));
 
-        verify(textService).updateText(eq(1L), eq(validTextRequest.text()), eq(2));
+        verify(textService).updateText(eq(1L), eq(validTextRequest.text()), eq(2), eq(SummaryAlgorithm.LEAD), isNull());
     }
 
     @Test
     void updateText_WithInvalidLines_ShouldReturnBadRequest() throws Exception {
         // Given
-        when(textService.updateText(eq(1L), anyString(), eq(11)))
+        when(textService.updateText(eq(1L), anyString(), eq(11), any(), any()))
                 .thenThrow(new IllegalArgumentException("O número de linhas deve estar entre 1 e 10."));
 
         // When & Then
@@ -282,7 +871,7 @@ public class TextControllerTest {
     @Test
     void updateText_WithGeneralException_ShouldReturnInternalServerError() throws Exception {
         // Given
-        when(textService.updateText(eq(1L), anyString(), anyInt()))
+        when(textService.updateText(eq(1L), anyString(), anyInt(), any(), any()))
                 .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
@@ -294,6 +883,51 @@ public class TextControllerTest {
                 .andExpect(content().string(containsString("Erro ao atualizar o texto: Database error")));
     }
 
+    @Test
+    void updateText_WithNonExistingId_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(textService.updateText(eq(999L), anyString(), anyInt(), any(), any()))
+                .thenThrow(new TextNotFoundException(999L));
+
+        // When & Then
+        mockMvc.perform(put("/text/update/999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("lines", "2"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Texto não encontrado com o ID: 999"));
+    }
+
+    @Test
+    void updateText_WhenOverloaded_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(limiter.acquire(anyString())).thenThrow(new SummarizationOverloadedException("Servidor sobrecarregado. Tente novamente em instantes."));
+
+        // When & Then
+        mockMvc.perform(put("/text/update/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("lines", "2"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(textService, never()).updateText(anyLong(), anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void updateText_WithConcurrentUpdate_ShouldReturnConflict() throws Exception {
+        // Given
+        when(textService.updateText(eq(1L), anyString(), anyInt(), any(), any()))
+                .thenThrow(new OptimisticLockingFailureException("versão desatualizada"));
+
+        // When & Then
+        mockMvc.perform(put("/text/update/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validTextRequest))
+                        .param("lines", "2"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void updateText_WithValidationErrors_ShouldReturnBadRequest() throws Exception {
         // Given
@@ -308,13 +942,12 @@ public class TextControllerTest {
                         .param("lines", "2"))
                 .andExpect(status().isBadRequest());
 
-        verify(textService, never()).updateText(anyLong(), anyString(), anyInt());
+        verify(textService, never()).updateText(anyLong(), anyString(), anyInt(), any(), any());
     }
 
     @Test
     void deleteText_WithExistingId_ShouldReturnSuccess() throws Exception {
         // Given
-        when(textService.findById(1L)).thenReturn(Optional.of(validText));
         doNothing().when(textService).deleteText(1L);
 
         // When & Then
@@ -328,20 +961,19 @@ public class TextControllerTest {
     @Test
     void deleteText_WithNonExistingId_ShouldReturnBadRequest() throws Exception {
         // Given
-        when(textService.findById(999L)).thenReturn(Optional.empty());
+        doThrow(new TextNotFoundException(999L)).when(textService).deleteText(999L);
 
         // When & Then
         mockMvc.perform(delete("/text/delete/999"))
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Texto não encontrado com o ID: 999"));
 
-        verify(textService, never()).deleteText(999L);
+        verify(textService, never()).findById(anyLong());
     }
 
     @Test
     void deleteText_WithException_ShouldReturnInternalServerError() throws Exception {
         // Given
-        when(textService.findById(1L)).thenReturn(Optional.of(validText));
         doThrow(new RuntimeException("Database error")).when(textService).deleteText(1L);
 
         // When & Then
@@ -351,4 +983,20 @@ public class TextControllerTest {
 
         verify(textService).deleteText(1L);
     }
-}
\ No newline at end of file
+
+    private void givenExport(String content) throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(textExportService).export(anyLong(), any(), any());
+    }
+
+    private static byte[] gzip(String text) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,137 @@
+package me.dio.bootcamp.project.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara threads de plataforma e threads virtuais com 1000 clientes simultâneos. Precisa de duas
+ * instâncias da aplicação (Java 21) apontando para o mesmo PostgreSQL, uma com {@code VIRTUAL_THREADS=false}
+ * e outra com {@code VIRTUAL_THREADS=true}, por exemplo:
+ * {@code LOAD_TEST_PLATFORM_URL=http://localhost:8080 LOAD_TEST_VIRTUAL_URL=http://localhost:8081 mvn test -Dtest=ThreadModelLoadTest}
+ */
+@EnabledIfEnvironmentVariable(named = "LOAD_TEST_PLATFORM_URL", matches = ".+")
+@EnabledIfEnvironmentVariable(named = "LOAD_TEST_VIRTUAL_URL", matches = ".+")
+public class ThreadModelLoadTest {
+
+    private static final int CLIENTS = 1000;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(30);
+    /** A cada N requisições de um cliente, uma é um POST /text/save; as outras são leituras paginadas. */
+    private static final int WRITE_EVERY = 10;
+
+    @Test
+    void testPlatformAndVirtualThreadsUnderLoad() throws Exception {
+        // Act
+        Result platform = run("plataforma", System.getenv("LOAD_TEST_PLATFORM_URL"));
+        Result virtual = run("virtual", System.getenv("LOAD_TEST_VIRTUAL_URL"));
+
+        // Assert
+        System.out.printf("%-12s %10s %10s %10s %10s %8s%n", "threads", "requisições", "req/s", "p50 (ms)", "p99 (ms)", "erros");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("%-12s %10d %10.0f %10.1f %10.1f %8d%n", result.mode, result.requests,
+                    result.requests / (double) MEASUREMENT.toSeconds(), result.p50, result.p99, result.errors);
+        }
+        assertTrue(platform.requests > 0 && virtual.requests > 0);
+    }
+
+    private static Result run(String mode, String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        runClients(mode, baseUrl, client, WARMUP, new ArrayList<>(), new AtomicInteger());
+
+        List<long[]> latencies = new ArrayList<>();
+        AtomicInteger errors = new AtomicInteger();
+        runClients(mode, baseUrl, client, MEASUREMENT, latencies, errors);
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).filter(l -> l > 0).sorted().toArray();
+        return new Result(mode, all.length, percentile(all, 0.50), percentile(all, 0.99), errors.get());
+    }
+
+    private static void runClients(String mode, String baseUrl, HttpClient client, Duration duration,
+                                   List<long[]> latencies, AtomicInteger errors) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int c = 0; c < CLIENTS; c++) {
+                int clientId = c;
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    long deadline = System.nanoTime() + duration.toNanos();
+                    long[] measured = new long[1024];
+                    int count = 0;
+                    for (int i = 0; System.nanoTime() < deadline; i++) {
+                        long begin = System.nanoTime();
+                        int status = send(client, request(baseUrl, mode, clientId, i));
+                        if (status >= 500 || status < 0) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == measured.length) {
+                            measured = Arrays.copyOf(measured, count * 2);
+                        }
+                        measured[count++] = System.nanoTime() - begin;
+                    }
+                    return Arrays.copyOf(measured, count);
+                }));
+            }
+            start.countDown();
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get(duration.toSeconds() + 60, TimeUnit.SECONDS));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static HttpRequest request(String baseUrl, String mode, int clientId, int iteration) {
+        if (iteration % WRITE_EVERY == 0) {
+            String body = "{\"text\":\"Carga %s cliente %d iteração %d %d. Segunda frase do texto de carga.\"}"
+                    .formatted(mode, clientId, iteration, System.nanoTime());
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/text/save?lines=1"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/text/find?limit=20"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private record Result(String mode, int requests, double p50, double p99, int errors) {
+    }
+}
@@ -0,0 +1,253 @@
+package me.dio.bootcamp.project.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.service.SentenceDetectorPool;
+import me.dio.bootcamp.project.service.SentenceModelRegistry;
+import me.dio.bootcamp.project.service.TextService;
+import me.dio.bootcamp.project.service.TextSummarizer;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Roteamento entre primário e réplica com dois bancos H2 independentes no lugar dos PostgreSQL.
+ * A "réplica" recebe dados diferentes do primário, para que cada leitura mostre de onde veio, e o
+ * atraso de replicação é simulado pela tabela {@code replica_lag}.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "summarizer.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "summarizer.datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+        "summarizer.datasource.replica.max-lag=5s",
+        "summarizer.datasource.replica.check-interval=1h"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadReplicaConfig.class, TextService.class, ReadReplicaRoutingTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReadReplicaRoutingTest {
+
+    @Autowired
+    private TextService textService;
+
+    @Autowired
+    private TextRepository textRepository;
+
+    @Autowired
+    private ReadReplicaDataSource readReplicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private TextSummarizer summarizer;
+
+    @MockBean
+    private SentenceDetectorPool detectorPool;
+
+    @MockBean
+    private SentenceModelRegistry modelRegistry;
+
+    private JdbcTemplate replica;
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        when(summarizer.summarize(anyString(), anyInt(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        id = textService.saveText("Texto do primário.", 1, SummaryAlgorithm.LEAD, null).getId();
+
+        replica = new JdbcTemplate(readReplicaDataSource.replica());
+        replica.execute("CREATE TABLE IF NOT EXISTS text (id BIGINT PRIMARY KEY, text VARCHAR(255), "
+                + "text_reduced VARCHAR(255), content_hash VARCHAR(64), sentence_offsets VARBINARY(255), version BIGINT)");
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE PRECISION)");
+        replica.update("DELETE FROM text");
+        replica.update("INSERT INTO text (id, text, text_reduced, version) VALUES (?, 'Texto da réplica.', 'Texto da réplica.', 0)", id);
+        setLag(0);
+        // Sem o cache de segundo nível as buscas por id vão ao banco
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        textRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testReadOnlyFindsReadFromTheReplica() {
+        // Arrange
+        double before = reads("replica");
+
+        // Act & Assert
+        assertTrue(readReplicaDataSource.isAvailable());
+        assertEquals("Texto da réplica.", textService.findPage(0, 10).texts().get(0).getText());
+        assertEquals(1, textService.findByContent("réplica").size());
+        assertEquals(2.0, reads("replica") - before);
+    }
+
+    @Test
+    void testFindByIdReadsThePrimaryBeforeFillingTheCache() {
+        // Arrange: a réplica ainda tem o texto antigo
+        double before = reads("replica");
+
+        // Act
+        Text found = textService.findById(id).orElseThrow();
+
+        // Assert
+        assertEquals("Texto do primário.", found.getText());
+        assertEquals(0.0, reads("replica") - before);
+        assertTrue(entityManagerFactory.getCache().contains(Text.class, id));
+        assertEquals("Texto do primário.", textService.findById(id).orElseThrow().getText());
+    }
+
+    @Test
+    void testWritesGoToThePrimary() {
+        // Arrange
+        when(modelRegistry.resolve(null, "Texto novo.")).thenReturn("pt");
+        when(modelRegistry.detectors("pt")).thenReturn(detectorPool);
+        when(detectorPool.sentPosDetect("Texto novo.")).thenReturn(new Span[]{new Span(0, 11)});
+
+        // Act
+        Text updated = textService.updateText(id, "Texto novo.", 1, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals(1L, updated.getVersion());
+        assertEquals("Texto novo.", textRepository.findById(id).orElseThrow().getText());
+        assertEquals("Texto da réplica.", replica.queryForObject("SELECT text FROM text WHERE id = ?", String.class, id));
+    }
+
+    @Test
+    void testReadOnlyFindsFallBackToThePrimaryWhenTheReplicaLags() {
+        // Arrange
+        double before = reads("primary");
+
+        // Act
+        setLag(60);
+
+        // Assert
+        assertFalse(readReplicaDataSource.isAvailable());
+        assertEquals(60.0, meterRegistry.get("summarizer.datasource.replica.lag").gauge().value());
+        assertEquals("Texto do primário.", textService.findPage(0, 10).texts().get(0).getText());
+        assertEquals(1.0, reads("primary") - before);
+
+        // Act
+        setLag(1);
+
+        // Assert
+        assertEquals("Texto da réplica.", textService.findPage(0, 10).texts().get(0).getText());
+    }
+
+    @Test
+    @DirtiesContext
+    void testReadOnlyFindsFallBackToThePrimaryWhenTheReplicaIsDown() {
+        // Arrange
+        ((HikariDataSource) readReplicaDataSource.replica()).close();
+
+        // Act & Assert
+        assertEquals("Texto do primário.", textService.findPage(0, 10).texts().get(0).getText());
+        assertFalse(readReplicaDataSource.isAvailable());
+        assertEquals(0.0, meterRegistry.get("summarizer.datasource.replica.available").gauge().value());
+    }
+
+    @Test
+    void testWithoutReplicaUrlEveryConnectionGoesToThePrimary() throws Exception {
+        // Arrange: a URL é lida na subida, e não por uma condição fixada no build
+        DataSource primary = mock(DataSource.class);
+        ReadReplicaDataSource readOnly = new ReadReplicaConfig().readReplicaDataSource(primary, new DataSourceProperties(),
+                new MockEnvironment(), Duration.ofSeconds(5), Duration.ofSeconds(5), "", new SimpleMeterRegistry());
+
+        // Act
+        readOnly.getConnection();
+
+        // Assert
+        assertFalse(readOnly.isEnabled());
+        verify(primary).getConnection();
+        readOnly.destroy();
+    }
+
+    @Test
+    void testGetConnectionWithCredentialsFollowsTheReplicaState() throws Exception {
+        // Arrange: réplica em dia, conforme a consulta de atraso
+        DataSource primary = mock(DataSource.class);
+        DataSource replicaSource = mock(DataSource.class);
+        Connection lagConnection = mock(Connection.class);
+        Statement lagStatement = mock(Statement.class);
+        ResultSet lag = mock(ResultSet.class);
+        when(replicaSource.getConnection()).thenReturn(lagConnection);
+        when(lagConnection.createStatement()).thenReturn(lagStatement);
+        when(lagStatement.executeQuery("SELECT 0")).thenReturn(lag);
+        when(lag.getDouble(1)).thenReturn(0.0);
+        ReadReplicaDataSource readOnly = new ReadReplicaDataSource(primary, replicaSource, Duration.ofSeconds(5),
+                Duration.ofHours(1), "SELECT 0", new SimpleMeterRegistry());
+
+        try {
+            // Act
+            readOnly.getConnection("leitor", "segredo");
+            when(lag.getDouble(1)).thenReturn(60.0);
+            readOnly.check();
+            readOnly.getConnection("leitor", "segredo");
+
+            // Assert
+            verify(replicaSource).getConnection("leitor", "segredo");
+            verify(primary).getConnection("leitor", "segredo");
+        } finally {
+            readOnly.destroy();
+        }
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("summarizer.datasource.reads").tag("target", target).counter().count();
+    }
+
+    private void setLag(double seconds) {
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (?)", seconds);
+        readReplicaDataSource.check();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
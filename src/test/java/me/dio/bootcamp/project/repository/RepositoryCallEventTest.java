@@ -0,0 +1,61 @@
+package me.dio.bootcamp.project.repository;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({RepositoryCallRecorder.class, TextExportRepository.class})
+public class RepositoryCallEventTest {
+
+    @Autowired
+    private TextRepository textRepository;
+
+    @Autowired
+    private TextExportRepository exportRepository;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testRepositoryCallsEmitOneEventEach() throws Exception {
+        // Arrange
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("me.dio.summarizer.RepositoryCall");
+            recording.start();
+
+            // Act
+            textRepository.existsByContentHash("hash");
+            textRepository.count();
+            exportRepository.forEachAfter(0, (id, text, textReduced) -> { });
+            recording.stop();
+            Path file = directory.resolve("repository.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // Assert
+        assertEquals(List.of("TextRepository.existsByContentHash", "TextRepository.count", "TextExportRepository.forEachAfter"),
+                events.stream()
+                        .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                        .map(e -> e.getString("repository") + "." + e.getString("method"))
+                        .toList());
+        assertTrue(events.stream().allMatch(e -> e.getBoolean("success")));
+    }
+}
@@ -0,0 +1,36 @@
+package me.dio.bootcamp.project.repository;
+
+import me.dio.bootcamp.project.entity.Text;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SecondLevelCacheTest {
+
+    @Test
+    void testCustomizeGivesEachFactoryItsOwnCacheManager() {
+        // Arrange
+        SecondLevelCache secondLevelCache = new SecondLevelCache(100, Duration.ofMinutes(1));
+        Map<String, Object> first = new HashMap<>();
+        Map<String, Object> second = new HashMap<>();
+
+        // Act
+        secondLevelCache.customize(first);
+        secondLevelCache.customize(second);
+        CacheManager firstManager = (CacheManager) first.get(ConfigSettings.CACHE_MANAGER);
+        CacheManager secondManager = (CacheManager) second.get(ConfigSettings.CACHE_MANAGER);
+        firstManager.close();
+
+        // Assert
+        assertNotSame(firstManager, secondManager);
+        assertFalse(secondManager.isClosed());
+        assertNotNull(secondManager.getCache(Text.CACHE_REGION));
+        secondManager.close();
+    }
+}
@@ -0,0 +1,69 @@
+package me.dio.bootcamp.project.repository;
+
+import me.dio.bootcamp.project.entity.Text;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "summarizer.export.fetch-size=2"
+})
+@Import(TextExportRepository.class)
+public class TextExportRepositoryTest {
+
+    @Autowired
+    private TextExportRepository exportRepository;
+
+    @Autowired
+    private TextRepository textRepository;
+
+    private List<Text> saved;
+
+    @BeforeEach
+    void setUp() {
+        saved = textRepository.saveAllAndFlush(List.of(
+                Text.builder().text("Texto um.").textReduced("Um.").contentHash("h1").build(),
+                Text.builder().text("Texto dois.").textReduced("Dois.").contentHash("h2").build(),
+                Text.builder().text("Texto três.").contentHash("h3").build()
+        ));
+    }
+
+    @Test
+    void testForEachAfterReadsEveryRowInIdOrder() {
+        // Arrange
+        List<String> rows = new ArrayList<>();
+
+        // Act
+        exportRepository.forEachAfter(0, (id, text, textReduced) -> rows.add(id + "|" + text + "|" + textReduced));
+
+        // Assert
+        assertEquals(List.of(
+                saved.get(0).getId() + "|Texto um.|Um.",
+                saved.get(1).getId() + "|Texto dois.|Dois.",
+                saved.get(2).getId() + "|Texto três.|null"
+        ), rows);
+    }
+
+    @Test
+    void testForEachAfterSkipsIdsUpToSinceId() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+
+        // Act
+        exportRepository.forEachAfter(saved.get(1).getId(), (id, text, textReduced) -> ids.add(id));
+
+        // Assert
+        assertEquals(List.of(saved.get(2).getId()), ids);
+    }
+}
@@ -0,0 +1,243 @@
+package me.dio.bootcamp.project.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.service.SentenceDetectorPool;
+import me.dio.bootcamp.project.service.SentenceModelRegistry;
+import me.dio.bootcamp.project.service.TextNotFoundException;
+import me.dio.bootcamp.project.service.TextService;
+import me.dio.bootcamp.project.service.TextSummarizer;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Orçamento de comandos SQL por operação dos endpoints de CRUD, medido com o {@link StatementCounter}
+ * sobre H2 e com o cache de segundo nível ligado. Cada chamada roda na própria transação, como em
+ * produção, para que os comandos adiados até o commit também sejam contados.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({TextQueryBudgetTest.Config.class, SecondLevelCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TextQueryBudgetTest {
+
+    private static final String TEXT = "Primeira frase do texto. Segunda frase do texto.";
+
+    @Autowired
+    private TextRepository textRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TextService textService;
+    private SentenceDetectorPool detectorPool;
+
+    @BeforeEach
+    void setUp() {
+        TextSummarizer summarizer = mock(TextSummarizer.class);
+        when(summarizer.summarize(anyString(), anyInt(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        detectorPool = mock(SentenceDetectorPool.class);
+        SentenceModelRegistry modelRegistry = mock(SentenceModelRegistry.class);
+        when(modelRegistry.resolve(any(), anyString())).thenReturn("pt");
+        when(modelRegistry.detectors("pt")).thenReturn(detectorPool);
+        textService = new TextService(textRepository, summarizer, modelRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        textRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testSaveUsesAtMostTwoStatements() {
+        // Act & Assert
+        assertBudget(2, () -> textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null));
+    }
+
+    @Test
+    void testFindByIdWhenCachedDoesNotQueryTheDatabase() {
+        // Arrange
+        Long id = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null).getId();
+
+        // Act
+        Text found = assertBudget(0, () -> textService.findById(id).orElseThrow());
+
+        // Assert
+        assertEquals(TEXT, found.getText());
+    }
+
+    @Test
+    void testFindByIdWhenNotCachedUsesOneStatementAndCachesTheText() {
+        // Arrange
+        Long id = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        // Act & Assert
+        assertBudget(1, () -> textService.findById(id).orElseThrow());
+        assertBudget(0, () -> textService.findById(id).orElseThrow());
+    }
+
+    @Test
+    void testUpdateWhenCachedUsesOneStatementAndRefreshesTheCache() {
+        // Arrange
+        Text saved = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null);
+        Long id = saved.getId();
+        when(detectorPool.sentPosDetect("Texto novo.")).thenReturn(new Span[]{new Span(0, 11)});
+
+        // Act
+        assertBudget(1, () -> textService.updateText(id, "Texto novo.", 1, SummaryAlgorithm.LEAD, null));
+
+        // Assert
+        Text updated = assertBudget(0, () -> textService.findById(id).orElseThrow());
+        assertEquals("Texto novo.", updated.getText());
+        assertEquals("Texto novo.", textService.summarize(id, 1, null).orElseThrow());
+        assertEquals(saved.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void testUpdateWhenNotCachedUsesASelectAndAnUpdate() {
+        // Arrange
+        Text saved = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null);
+        Long id = saved.getId();
+        when(detectorPool.sentPosDetect("Texto novo.")).thenReturn(new Span[]{new Span(0, 11)});
+        entityManagerFactory.getCache().evictAll();
+
+        // Act
+        assertBudget(2, () -> textService.updateText(id, "Texto novo.", 1, SummaryAlgorithm.LEAD, null));
+
+        // Assert
+        Text updated = assertBudget(0, () -> textService.findById(id).orElseThrow());
+        assertEquals("Texto novo.", updated.getText());
+        assertEquals(saved.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void testUpdateNotFoundUsesOneStatement() {
+        // Act & Assert
+        assertBudget(1, () -> assertThrows(TextNotFoundException.class,
+                () -> textService.updateText(999L, TEXT, 1, SummaryAlgorithm.LEAD, null)));
+    }
+
+    @Test
+    void testDeleteWhenCachedUsesOneStatementAndEvictsTheText() {
+        // Arrange
+        Long id = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null).getId();
+
+        // Act
+        assertBudget(1, () -> {
+            textService.deleteText(id);
+            return null;
+        });
+
+        // Assert
+        assertTrue(textService.findById(id).isEmpty());
+    }
+
+    @Test
+    void testDeleteWhenNotCachedUsesASelectAndADelete() {
+        // Arrange
+        Long id = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        // Act
+        assertBudget(2, () -> {
+            textService.deleteText(id);
+            return null;
+        });
+
+        // Assert
+        assertTrue(textRepository.findById(id).isEmpty());
+    }
+
+    @Test
+    void testDeleteNotFoundUsesOneStatement() {
+        // Act & Assert
+        assertBudget(1, () -> assertThrows(TextNotFoundException.class, () -> textService.deleteText(999L)));
+    }
+
+    @Test
+    void testSummarizeStoresOffsetsOnceAndThenOnlyReads() {
+        // Arrange
+        Text saved = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null);
+        Long id = saved.getId();
+        when(detectorPool.sentPosDetect(TEXT)).thenReturn(new Span[]{new Span(0, 24), new Span(25, 48)});
+
+        // Act & Assert
+        assertEquals("Primeira frase do texto.", assertBudget(1, () -> textService.summarize(id, 1, null).orElseThrow()));
+        assertEquals(TEXT, assertBudget(0, () -> textService.summarize(id, 2, null).orElseThrow()));
+
+        verify(detectorPool, times(1)).sentPosDetect(TEXT);
+        assertEquals(saved.getVersion(), textService.findById(id).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testFindPageUsesOneStatement() {
+        // Arrange
+        textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null);
+
+        // Act & Assert
+        assertEquals(1, assertBudget(1, () -> textService.findPage(0, 10)).texts().size());
+    }
+
+    @Test
+    void testBulkReadsDoNotFillTheCache() {
+        // Arrange
+        Long id = textService.saveText(TEXT, 1, SummaryAlgorithm.LEAD, null).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        // Act
+        textService.findPage(0, 10);
+        textService.findByContent("segunda");
+
+        // Assert
+        assertFalse(entityManagerFactory.getCache().contains(Text.class, id));
+    }
+
+    private <T> T assertBudget(int budget, Supplier<T> operation) {
+        long before = statementCounter.total();
+        T result = operation.get();
+        long statements = statementCounter.total() - before;
+        assertTrue(statements <= budget,
+                "Esperado no máximo " + budget + " comando(s) SQL, mas foram " + statements);
+        return result;
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        StatementCounter statementCounter(MeterRegistry meterRegistry) {
+            return new StatementCounter(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package me.dio.bootcamp.project.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede p50/p99 da busca por conteúdo com e sem o índice trigram em 10k, 100k e 1M linhas.
+ * Roda apenas quando {@code BENCHMARK_PG_URL} aponta para um PostgreSQL descartável, por exemplo:
+ * {@code BENCHMARK_PG_URL=jdbc:postgresql://localhost:25432/bench?user=postgres&password=postgres mvn test -Dtest=TextSearchBenchmarkTest}
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_PG_URL", matches = ".+")
+public class TextSearchBenchmarkTest {
+
+    private static final int[] ROW_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_QUERIES = 20;
+    private static final int MEASURED_QUERIES = 200;
+
+    private static final String SEARCH_SQL =
+            "SELECT * FROM text_search_bench WHERE text ILIKE '%' || ? || '%' ESCAPE '\\'";
+
+    @Test
+    void testContainsSearchIsFasterWithTheTrigramIndex() throws SQLException {
+        // Arrange
+        try (Connection connection = DriverManager.getConnection(System.getenv("BENCHMARK_PG_URL"))) {
+            execute(connection, "CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            System.out.printf("%-10s %-12s %10s %10s%n", "linhas", "índice", "p50 (ms)", "p99 (ms)");
+
+            for (int rows : ROW_COUNTS) {
+                populate(connection, rows);
+
+                // Act
+                double[] seqScan = measure(connection, rows);
+                execute(connection, "CREATE INDEX text_search_bench_trgm_idx ON text_search_bench USING gin (text gin_trgm_ops)");
+                execute(connection, "ANALYZE text_search_bench");
+                double[] trigram = measure(connection, rows);
+
+                // Assert
+                System.out.printf("%-10d %-12s %10.2f %10.2f%n", rows, "nenhum", seqScan[0], seqScan[1]);
+                System.out.printf("%-10d %-12s %10.2f %10.2f%n", rows, "pg_trgm", trigram[0], trigram[1]);
+                if (rows >= 100_000) {
+                    assertTrue(trigram[0] < seqScan[0], "O índice trigram deveria ser mais rápido que o scan sequencial");
+                }
+            }
+            execute(connection, "DROP TABLE IF EXISTS text_search_bench");
+        }
+    }
+
+    private static void populate(Connection connection, int rows) throws SQLException {
+        execute(connection, "DROP TABLE IF EXISTS text_search_bench");
+        execute(connection, "CREATE TABLE text_search_bench (id BIGINT PRIMARY KEY, text TEXT, text_reduced TEXT)");
+        execute(connection, """
+                INSERT INTO text_search_bench (id, text, text_reduced)
+                SELECT g, 'Documento ' || g || '. ' || body, 'Documento ' || g || '.'
+                FROM generate_series(1, %d) g,
+                     LATERAL (SELECT string_agg(w[1 + floor(random() * array_length(w, 1))::int], ' ') AS body
+                              FROM generate_series(1, 40),
+                                   (SELECT ARRAY['texto', 'resumo', 'frase', 'sentença', 'dados', 'sistema', 'modelo',
+                                                 'usuário', 'relatório', 'cidade', 'equipe', 'versão', 'teste',
+                                                 'banco', 'consulta', 'índice', 'tabela', 'linha', 'valor', 'tempo'] AS w) words
+                              WHERE g > 0) b
+                """.formatted(rows));
+        execute(connection, "ANALYZE text_search_bench");
+    }
+
+    private static double[] measure(Connection connection, int rows) throws SQLException {
+        Random random = new Random(42);
+        long[] latencies = new long[MEASURED_QUERIES];
+        try (PreparedStatement statement = connection.prepareStatement(SEARCH_SQL)) {
+            for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+                statement.setString(1, "documento " + (1 + random.nextInt(rows)) + ".");
+                long start = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString("text");
+                    }
+                }
+                if (i >= WARMUP_QUERIES) {
+                    latencies[i - WARMUP_QUERIES] = System.nanoTime() - start;
+                }
+            }
+        }
+        Arrays.sort(latencies);
+        return new double[]{percentile(latencies, 0.50), percentile(latencies, 0.99)};
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package me.dio.bootcamp.project.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentHashTest {
+
+    @Test
+    void testNormalizeCollapsesWhitespaceAndLowercases() {
+        // Act & Assert
+        assertEquals("olá mundo. segunda frase.", ContentHash.normalize("  Olá\tMundo.\n\nSegunda   FRASE. "));
+    }
+
+    @Test
+    void testOfMatchesForNormalizedEqualTexts() {
+        // Act & Assert
+        assertEquals(ContentHash.of("Texto de Exemplo."), ContentHash.of("texto   de exemplo. "));
+        assertNotEquals(ContentHash.of("Texto de exemplo."), ContentHash.of("Texto de exemplo"));
+    }
+
+    @Test
+    void testOfIsLowercaseHexSha256() {
+        // Act
+        String hash = ContentHash.of("abc");
+
+        // Assert
+        assertEquals(64, hash.length());
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", hash);
+    }
+}
@@ -0,0 +1,120 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RuleBasedSentenceSplitterTest {
+
+    @Mock
+    private SentenceSplitter fallback;
+
+    private SimpleMeterRegistry registry;
+    private SentenceSplitter splitter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        splitter = new RuleBasedSentenceSplitter(registry).withFallback(fallback);
+    }
+
+    @Test
+    void testSentDetectSplitsOnTerminalPunctuation() {
+        // Act
+        String[] sentences = splitter.sentDetect("Primeira frase. Segunda frase! Terceira?\nQuarta sem ponto  ");
+
+        // Assert
+        assertArrayEquals(new String[]{"Primeira frase.", "Segunda frase!", "Terceira?", "Quarta sem ponto"}, sentences);
+        verifyNoInteractions(fallback);
+        assertEquals(1.0, registry.get("summarizer.splitter.texts").tag("path", "rules").counter().count());
+    }
+
+    @Test
+    void testSentDetectKeepsAbbreviationsNumbersAndAddressesInsideTheSentence() {
+        // Arrange
+        String text = "O Sr. Silva e a Dra. Souza chegaram às 10h. A empresa Exemplo S.A. subiu 3.5 pontos, "
+                + "conforme o art. 5 e a pág. 12 do site www.exemplo.com.br. \"Foi um choque\", disse ele.";
+
+        // Act
+        String[] sentences = splitter.sentDetect(text);
+
+        // Assert
+        assertArrayEquals(new String[]{
+                "O Sr. Silva e a Dra. Souza chegaram às 10h.",
+                "A empresa Exemplo S.A. subiu 3.5 pontos, conforme o art. 5 e a pág. 12 do site www.exemplo.com.br.",
+                "\"Foi um choque\", disse ele."
+        }, sentences);
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void testSentDetectIncludesClosingQuotesAndParentheses() {
+        // Act
+        String[] sentences = splitter.sentDetect("Ele disse: \"Vamos embora.\" Todos saíram. (A nota saiu ontem.) Fim.");
+
+        // Assert
+        assertArrayEquals(new String[]{"Ele disse: \"Vamos embora.\"", "Todos saíram.", "(A nota saiu ontem.)", "Fim."}, sentences);
+    }
+
+    @Test
+    void testSentDetectWithAmbiguousTextUsesTheFallback() {
+        // Arrange: "etc." antes de maiúscula pode ou não terminar a sentença
+        String text = "Comprou frutas, legumes etc. Depois voltou.";
+        when(fallback.sentDetect(text)).thenReturn(new String[]{"Comprou frutas, legumes etc.", "Depois voltou."});
+
+        // Act
+        String[] sentences = splitter.sentDetect(text);
+
+        // Assert
+        assertArrayEquals(new String[]{"Comprou frutas, legumes etc.", "Depois voltou."}, sentences);
+        assertEquals(1.0, registry.get("summarizer.splitter.texts").tag("path", "fallback").counter().count());
+    }
+
+    @Test
+    void testFirstSentencesStopsBeforeALaterAmbiguity() {
+        // Arrange
+        String text = "Primeira frase. Segunda frase. Depois veio J. Silva. E mais.";
+
+        // Act & Assert
+        assertArrayEquals(new String[]{"Primeira frase.", "Segunda frase."}, splitter.firstSentences(text, 2));
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void testSentPosDetectReturnsOffsetsWithoutSurroundingWhitespace() {
+        // Act
+        Span[] spans = splitter.sentPosDetect("  Texto com espaços.   Outra frase.  ");
+
+        // Assert
+        assertArrayEquals(new Span[]{new Span(2, 20), new Span(23, 35)}, spans);
+        assertArrayEquals(new Span[0], splitter.sentPosDetect("   "));
+    }
+
+    @Test
+    void testSentPosDetectOnCleanProseMatchesTheModel() throws Exception {
+        // Arrange
+        SentenceDetectorPool pool = new SentenceDetectorPool(1, Duration.ofSeconds(5), false, "pt", "", new SimpleMeterRegistry());
+        String[] texts = {
+                "O banco central manteve a taxa de juros. Segundo os analistas, a inflação ainda preocupa o comitê.",
+                "Você já pensou em quanto tempo passa no trânsito? O festival recebeu trezentos filmes este ano!",
+                "O relatório aponta crescimento de 12,5% nas vendas em 2024. A obra custou R$ 1.200.000.\nFim.",
+                "\"Ainda há muito a fazer\", afirmou a secretária. O prazo termina em maio."
+        };
+
+        // Act & Assert
+        for (String text : texts) {
+            assertArrayEquals(pool.sentPosDetect(text), splitter.sentPosDetect(text), text);
+        }
+        verifyNoInteractions(fallback);
+    }
+}
@@ -0,0 +1,103 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SentenceBoundaryIteratorTest {
+
+    private static final String[] SENTENCES = {
+            "O banco central manteve a taxa básica de juros pela terceira reunião seguida.",
+            "Segundo os analistas, a inflação de serviços ainda preocupa o comitê.",
+            "Você já pensou em quanto tempo passa no trânsito por semana?",
+            "O festival de cinema recebeu mais de trezentos filmes inscritos este ano!",
+            "O relatório aponta crescimento de doze por cento nas vendas do comércio eletrônico."
+    };
+
+    private static SentenceModel model;
+
+    @BeforeAll
+    static void loadModel() throws Exception {
+        model = SentenceDetectorPool.loadModel("pt", null);
+    }
+
+    @Test
+    void testIteratorFindsTheSameSentencesAsFullDetection() {
+        // Arrange
+        SentenceDetectorME detector = new SentenceDetectorME(model);
+        String text = document(200);
+        Span[] expected = detector.sentPosDetect(text);
+
+        // Act & Assert
+        for (int window : new int[]{16, 64, SentenceBoundaryIterator.INITIAL_WINDOW, text.length() + 1}) {
+            assertArrayEquals(expected, collect(new SentenceBoundaryIterator(detector, text, window)), "janela " + window);
+        }
+    }
+
+    @Test
+    void testIteratorGrowsTheWindowForALongSentence() {
+        // Arrange
+        SentenceDetectorME detector = new SentenceDetectorME(model);
+        String text = "Uma sentença" + " muito".repeat(300) + " longa. Depois vem outra.";
+
+        // Act & Assert
+        assertArrayEquals(detector.sentPosDetect(text), collect(new SentenceBoundaryIterator(detector, text, 32)));
+    }
+
+    @Test
+    void testIteratorWithEmptyOrBlankTextHasNoSentences() {
+        // Arrange
+        SentenceDetectorME detector = new SentenceDetectorME(model);
+
+        // Act & Assert
+        assertFalse(new SentenceBoundaryIterator(detector, "").hasNext());
+        assertFalse(new SentenceBoundaryIterator(detector, "   \n  ").hasNext());
+    }
+
+    @Test
+    void testFirstSentencesOnALargeDocumentDoesNotScanTheWholeText() {
+        // Arrange: ~4 MB de texto
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> model, false, 1, Duration.ofSeconds(5), "pt", new SimpleMeterRegistry());
+        String text = document(50_000);
+        for (int i = 0; i < 50; i++) {
+            pool.firstSentences(text, 3);
+        }
+
+        // Act
+        long start = System.nanoTime();
+        String[] first = pool.firstSentences(text, 3);
+        long leadNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        String[] all = pool.sentDetect(text);
+        long fullNanos = System.nanoTime() - start;
+
+        // Assert
+        assertArrayEquals(new String[]{all[0], all[1], all[2]}, first);
+        System.out.printf("Primeiras 3 sentenças: %.3f ms; documento inteiro (%d sentenças): %.1f ms%n",
+                leadNanos / 1e6, all.length, fullNanos / 1e6);
+        assertTrue(leadNanos * 100 < fullNanos, "Detectar o início deveria custar muito menos que o documento inteiro");
+    }
+
+    private static String document(int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            text.append(SENTENCES[(i * 7) % SENTENCES.length]).append(i % 11 == 0 ? "\n\n" : " ");
+        }
+        return text.toString();
+    }
+
+    private static Span[] collect(SentenceBoundaryIterator iterator) {
+        List<Span> spans = new ArrayList<>();
+        iterator.forEachRemaining(spans::add);
+        return spans.toArray(Span[]::new);
+    }
+}
@@ -0,0 +1,256 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dio.bootcamp.project.service.strategy.LeadSummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import opennlp.tools.sentdetect.SentenceModel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SentenceDetectorPoolTest {
+
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 40;
+
+    private static final String[] TEXTS = {
+            "O sistema recebe textos longos. Cada texto é dividido em sentenças. O resumo usa as primeiras frases.",
+            "A equipe publicou a nova versão ontem. Os testes passaram sem erros! Será que o desempenho melhorou?",
+            "Hoje choveu muito na cidade. As ruas ficaram alagadas, e o trânsito parou. Amanhã deve fazer sol.",
+            "O relatório tem três partes. A primeira descreve o problema. A segunda mostra os dados. A terceira conclui.",
+            "Frase única sem ponto final",
+            "Primeira frase curta. Segunda frase curta. Terceira frase curta. Quarta frase curta. Quinta frase curta."
+    };
+
+    private static SentenceModel model;
+
+    @BeforeAll
+    static void loadModel() throws Exception {
+        model = SentenceDetectorPool.loadModel("pt", null);
+    }
+
+    @Test
+    void testConcurrentSummariesMatchSequentialResults() throws Exception {
+        // Arrange
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> model, false, 0, Duration.ofSeconds(30), "pt", new SimpleMeterRegistry());
+        SentenceModelRegistry modelRegistry = new SentenceModelRegistry(pool, "pt", "", DataSize.ofMegabytes(256), 0,
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        TextSummarizer summarizer = new TextSummarizer(List.of(new LeadSummarizationStrategy()),
+                new SummaryCache(DataSize.ofBytes(0), new SimpleMeterRegistry()), modelRegistry, "model",
+                new SimpleMeterRegistry());
+        String[] expected = new String[TEXTS.length];
+        for (int i = 0; i < TEXTS.length; i++) {
+            expected[i] = summarizer.summarize(TEXTS[i], 2, SummaryAlgorithm.LEAD, null);
+        }
+
+        // Act
+        AtomicInteger mismatches = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            for (int n = 0; n < ITERATIONS; n++) {
+                for (int i = 0; i < TEXTS.length; i++) {
+                    if (!expected[i].equals(summarizer.summarize(TEXTS[i], 2, SummaryAlgorithm.LEAD, null))) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        // Assert
+        assertEquals(0, mismatches.get());
+        assertEquals(pool.getSize(), pool.getIdle());
+    }
+
+    @Test
+    void testConcurrentBorrowersUseDetectorsInParallel() throws Exception {
+        // Arrange
+        int cores = Runtime.getRuntime().availableProcessors();
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> model, false, Math.max(2, cores), Duration.ofSeconds(30), "pt",
+                new SimpleMeterRegistry());
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        // Act
+        runConcurrently(THREADS, () -> {
+            for (int n = 0; n < ITERATIONS; n++) {
+                pool.execute(detector -> {
+                    peak.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    try {
+                        return detector.sentDetect(TEXTS[3]);
+                    } finally {
+                        inUse.decrementAndGet();
+                    }
+                });
+            }
+        });
+
+        // Assert
+        assertTrue(peak.get() > 1, "Os detectores deveriam ser usados em paralelo");
+        assertTrue(peak.get() <= pool.getSize(), "O pool não pode emprestar mais detectores do que possui");
+    }
+
+    @Test
+    void testThroughputScalesWithPoolSize() throws Exception {
+        // Arrange
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        // Act
+        double single = measureThroughput(1);
+        double pooled = measureThroughput(cores);
+
+        // Assert
+        System.out.printf("Vazão do detector: pool=1 -> %.0f ops/s, pool=%d -> %.0f ops/s (%.2fx)%n",
+                single, cores, pooled, pooled / single);
+        assertTrue(single > 0 && pooled > 0);
+    }
+
+    @Test
+    void testBorrowWhenPoolIsExhaustedFailsAfterMaxWait() throws Exception {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> model, false, 1, Duration.ofMillis(50), "pt", registry);
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+
+        try {
+            holder.submit(() -> pool.execute(detector -> {
+                borrowed.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> pool.sentDetect(TEXTS[0]));
+            assertEquals(1.0, registry.get("summarizer.pool.size").gauge().value());
+            assertEquals(0.0, registry.get("summarizer.pool.idle").gauge().value());
+            assertEquals(2, registry.get("summarizer.pool.wait").timer().count());
+        } finally {
+            release.countDown();
+            holder.shutdown();
+        }
+    }
+
+    @Test
+    void testFirstSentencesWithNonPositiveCountReturnsNothing() {
+        // Arrange
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> model, false, 1, Duration.ofSeconds(5), "pt", new SimpleMeterRegistry());
+
+        // Act & Assert
+        assertArrayEquals(new String[0], pool.firstSentences(TEXTS[0], 0));
+        assertArrayEquals(new String[0], pool.firstSentences(TEXTS[0], -1));
+    }
+
+    @Test
+    void testLoadModelRecordsLoadTime() throws Exception {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        SentenceModel loaded = SentenceDetectorPool.loadModel("pt", null, registry);
+
+        // Assert
+        assertNotNull(loaded);
+        assertEquals(1, registry.get("summarizer.model.load").timer().count());
+    }
+
+    @Test
+    void testBackgroundLoadServesOnlyAfterTheModelIsLoaded() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> {
+            try {
+                loading.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return model;
+        }, true, 1, Duration.ofSeconds(5), "pt", registry);
+        SentenceModelHealthIndicator health = new SentenceModelHealthIndicator(pool);
+
+        // Assert: enquanto carrega, fica fora de prontidão
+        assertFalse(pool.isReady());
+        assertEquals(Status.DOWN, health.health().getStatus());
+        assertEquals(0.0, registry.get("summarizer.model.ready").gauge().value());
+
+        // Act
+        loading.countDown();
+
+        // Assert: quem já estava esperando recebe o detector assim que o modelo carrega
+        assertEquals(4, pool.sentDetect(TEXTS[3]).length);
+        assertTrue(pool.isReady());
+        assertEquals(Status.UP, health.health().getStatus());
+        assertEquals(1.0, registry.get("summarizer.model.ready").gauge().value());
+    }
+
+    @Test
+    void testBackgroundLoadWhenModelFailsReportsDownAndFailsFast() throws Exception {
+        // Arrange
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> {
+            throw new IOException("arquivo corrompido");
+        }, true, 1, Duration.ofSeconds(5), "pt", new SimpleMeterRegistry());
+        SentenceModelHealthIndicator health = new SentenceModelHealthIndicator(pool);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.getLoadFailure() == null && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Act & Assert
+        assertEquals(Status.DOWN, health.health().getStatus());
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> pool.sentDetect(TEXTS[0]));
+        assertInstanceOf(UncheckedIOException.class, error.getCause());
+    }
+
+    private static double measureThroughput(int poolSize) throws Exception {
+        SentenceDetectorPool pool = new SentenceDetectorPool(() -> model, false, poolSize, Duration.ofSeconds(30), "pt", new SimpleMeterRegistry());
+        AtomicInteger operations = new AtomicInteger();
+        long start = System.nanoTime();
+        runConcurrently(THREADS, () -> {
+            for (int n = 0; n < ITERATIONS; n++) {
+                pool.sentDetect(TEXTS[n % TEXTS.length]);
+                operations.incrementAndGet();
+            }
+        });
+        return operations.get() / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
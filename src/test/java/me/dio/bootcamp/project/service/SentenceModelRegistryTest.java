@@ -0,0 +1,175 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import opennlp.tools.langdetect.Language;
+import opennlp.tools.langdetect.LanguageDetectorFactory;
+import opennlp.tools.langdetect.LanguageDetectorME;
+import opennlp.tools.langdetect.LanguageDetectorModel;
+import opennlp.tools.langdetect.LanguageSample;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.util.ObjectStreamUtils;
+import opennlp.tools.util.TrainingParameters;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Os idiomas "en" e "es" usam cópias do modelo português; o que importa aqui é quando cada modelo é
+ * carregado e descartado, não a qualidade da divisão.
+ */
+public class SentenceModelRegistryTest {
+
+    private static SentenceModel model;
+
+    @TempDir
+    private Path directory;
+
+    private SentenceDetectorPool defaultPool;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void loadModel() throws Exception {
+        model = SentenceDetectorPool.loadModel("pt", null);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (String language : List.of("en", "es")) {
+            try (InputStream modelIn = SentenceDetectorPool.class.getResourceAsStream("/models/pt-sent.bin")) {
+                Files.copy(modelIn, directory.resolve(language + "-sent.bin"));
+            }
+        }
+        defaultPool = new SentenceDetectorPool(() -> model, false, 0, Duration.ofSeconds(5), "pt", new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testDetectorsLoadEachLanguageOnFirstUse() throws Exception {
+        // Arrange
+        SentenceModelRegistry registry = registry(DataSize.ofMegabytes(64));
+
+        // Act
+        double before = loaded();
+        SentenceDetectorPool english = registry.detectors("en");
+
+        // Assert
+        assertEquals(Set.of("en", "es", "pt"), registry.getLanguages());
+        assertEquals(1.0, before);
+        assertEquals(2.0, loaded());
+        assertSame(english, registry.detectors("en"));
+        assertSame(defaultPool, registry.detectors("pt"));
+        assertEquals(List.of("Primeira frase.", "Segunda frase."), List.of(english.sentDetect("Primeira frase. Segunda frase.")));
+        assertTrue(meterRegistry.get("summarizer.models.memory").gauge().value() > 0);
+        assertEquals(1, meterRegistry.get("summarizer.model.load").tag("language", "en").timer().count());
+        assertEquals(1, meterRegistry.get("summarizer.pool.borrow").tag("language", "en").timer().count());
+        assertEquals(english.getSize(), meterRegistry.get("summarizer.pool.size").tag("language", "en").gauge().value());
+    }
+
+    @Test
+    void testDetectorsOverTheMemoryLimitEvictTheLeastUsedLanguage() throws Exception {
+        // Arrange: cabe um modelo extra, não dois
+        long oneModel = Files.size(directory.resolve("en-sent.bin")) * 10;
+        SentenceModelRegistry registry = registry(DataSize.ofBytes(oneModel * 3 / 2));
+
+        // Act: "en" é o idioma mais pedido
+        SentenceDetectorPool english = registry.detectors("en");
+        for (int i = 0; i < 5; i++) {
+            registry.detectors("en");
+        }
+        SentenceDetectorPool spanish = registry.detectors("es");
+
+        // Assert: "es" não cabe junto e é recarregado a cada pedido
+        assertEquals(2.0, loaded());
+        assertTrue(registry.getWeightedSize() <= oneModel * 3 / 2);
+        assertSame(english, registry.detectors("en"));
+        assertNotSame(spanish, registry.detectors("es"));
+        assertNotNull(meterRegistry.find("summarizer.pool.idle").tag("language", "en").gauge());
+        assertNull(meterRegistry.find("summarizer.pool.idle").tag("language", "es").gauge());
+    }
+
+    @Test
+    void testRequireInstalledNormalizesOrRejectsTheLanguage() throws Exception {
+        // Arrange
+        SentenceModelRegistry registry = registry(DataSize.ofMegabytes(64));
+
+        // Act & Assert
+        assertEquals("en", registry.requireInstalled(" EN "));
+        UnsupportedLanguageException e = assertThrows(UnsupportedLanguageException.class,
+                () -> registry.detectors("fr"));
+        assertEquals("Idioma não suportado: fr. Use en, es ou pt.", e.getMessage());
+        assertEquals(1.0, loaded());
+    }
+
+    @Test
+    void testResolveWithoutLanguageDetectorUsesTheDefaultLanguage() throws Exception {
+        // Arrange
+        SentenceModelRegistry registry = registry(DataSize.ofMegabytes(64));
+
+        // Act & Assert
+        assertEquals("pt", registry.resolve(null, "The report has three parts."));
+        assertEquals("es", registry.resolve("es", "O relatório tem três partes."));
+        assertSame(defaultPool, registry.detectors(registry.resolve(null, "The report has three parts.")));
+    }
+
+    @Test
+    void testResolveWithLanguageDetectorDetectsTheLanguageOfTheText() throws Exception {
+        // Arrange
+        trainLanguageDetector();
+        SentenceModelRegistry registry = registry(DataSize.ofMegabytes(64));
+
+        // Act & Assert
+        assertEquals("en", registry.resolve(null, "The weather is nice today and the children play in the park."));
+        assertEquals("es", registry.resolve(null, "El tiempo está muy bueno hoy y los niños juegan en el parque."));
+        assertEquals("pt", registry.resolve(null, "O tempo está muito bom hoje e as crianças brincam no parque."));
+        assertEquals("pt", registry.resolve("pt", "The weather is nice today."));
+        assertNotSame(defaultPool, registry.detectors(registry.resolve(null, "The children play in the park with the dog.")));
+    }
+
+    private SentenceModelRegistry registry(DataSize maxMemory) throws Exception {
+        return new SentenceModelRegistry(defaultPool, "pt", directory, maxMemory, 0, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private double loaded() {
+        return meterRegistry.get("summarizer.models.loaded").gauge().value();
+    }
+
+    /**
+     * Um detector mínimo, treinado com poucas frases, salvo onde o registro procura o {@code langdetect-183.bin}.
+     */
+    private void trainLanguageDetector() throws Exception {
+        String[][] samples = {
+                {"eng", "The weather is nice today. The children play in the park with the dog. "
+                        + "We will travel to the city tomorrow and visit the old museum with our friends."},
+                {"spa", "El tiempo está muy bueno hoy. Los niños juegan en el parque con el perro. "
+                        + "Mañana viajaremos a la ciudad y visitaremos el museo antiguo con nuestros amigos."},
+                {"por", "O tempo está muito bom hoje. As crianças brincam no parque com o cachorro. "
+                        + "Amanhã vamos viajar para a cidade e visitar o museu antigo com os nossos amigos."}
+        };
+        List<LanguageSample> training = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            for (String[] sample : samples) {
+                training.add(new LanguageSample(new Language(sample[0]), sample[1]));
+            }
+        }
+        TrainingParameters parameters = TrainingParameters.defaultParams();
+        parameters.put(TrainingParameters.CUTOFF_PARAM, 0);
+        LanguageDetectorModel detector = LanguageDetectorME.train(ObjectStreamUtils.createObjectStream(training),
+                parameters, new LanguageDetectorFactory());
+        try (OutputStream modelOut = Files.newOutputStream(directory.resolve(SentenceModelRegistry.LANGUAGE_DETECTOR_MODEL))) {
+            detector.serialize(modelOut);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package me.dio.bootcamp.project.service;
+
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SentenceOffsetsTest {
+
+    private static final String TEXT = "Primeira frase.  Segunda frase!\n\nTerceira frase?";
+    private static final Span[] SPANS = {new Span(0, 15), new Span(17, 31), new Span(33, 48)};
+
+    @Test
+    void testSliceJoinsTheFirstSentencesLikeTheLeadSummary() {
+        // Arrange
+        byte[] offsets = SentenceOffsets.encode(SPANS);
+
+        // Act & Assert
+        assertEquals("Primeira frase.", SentenceOffsets.slice(TEXT, offsets, 1));
+        assertEquals("Primeira frase. Segunda frase!", SentenceOffsets.slice(TEXT, offsets, 2));
+        assertEquals("Primeira frase. Segunda frase! Terceira frase?", SentenceOffsets.slice(TEXT, offsets, 10));
+        assertEquals(3, SentenceOffsets.count(offsets));
+    }
+
+    @Test
+    void testEncodeUsesAboutTwoBytesPerShortSentence() {
+        // Act & Assert
+        assertEquals(6, SentenceOffsets.encode(SPANS).length);
+    }
+
+    @Test
+    void testEncodeWithLargeOffsetsRoundTrips() {
+        // Arrange
+        String text = "a".repeat(200_000) + " Fim.";
+        Span[] spans = {new Span(0, 200_000), new Span(200_001, 200_005)};
+
+        // Act
+        byte[] offsets = SentenceOffsets.encode(spans);
+
+        // Assert
+        assertEquals(text.trim(), SentenceOffsets.slice(text, offsets, 2));
+        assertEquals(2, SentenceOffsets.count(offsets));
+    }
+
+    @Test
+    void testEncodeWithNoSentencesIsEmpty() {
+        // Act
+        byte[] offsets = SentenceOffsets.encode(new Span[0]);
+
+        // Assert
+        assertEquals(0, offsets.length);
+        assertEquals("", SentenceOffsets.slice("", offsets, 3));
+    }
+}
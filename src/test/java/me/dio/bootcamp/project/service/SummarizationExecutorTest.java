@@ -0,0 +1,69 @@
+package me.dio.bootcamp.project.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledOnJre;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SummarizationExecutorTest {
+
+    @Test
+    void testPlatformThreadsRunTasksOnTheSummarizerPool() {
+        // Arrange
+        SummarizationExecutor executor = new SummarizationExecutor(2, 4, false);
+
+        try {
+            // Act & Assert
+            assertTrue(executor.supplyAsync(() -> Thread.currentThread().getName()).join().startsWith("summarizer-"));
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testVirtualThreadsNeverExceedTheConcurrencyLimit() {
+        // Arrange
+        SummarizationExecutor executor = new SummarizationExecutor(2, 4, true);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+
+        try {
+            // Act
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.supplyAsync(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                        return Thread.currentThread().getName();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }));
+            }
+
+            // Assert
+            futures.forEach(future -> assertTrue(future.join().startsWith("summarizer-")));
+            assertTrue(peak.get() <= 2, "Mais tarefas simultâneas do que o limite: " + peak.get());
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @EnabledOnJre(JRE.JAVA_17)
+    void testVirtualThreadsOnJava17FailFast() {
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> new SummarizationExecutor(2, 4, true));
+    }
+}
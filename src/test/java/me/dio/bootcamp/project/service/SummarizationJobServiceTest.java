@@ -0,0 +1,105 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SummarizationJobServiceTest {
+
+    @Mock
+    private TextService textService;
+
+    private SimpleMeterRegistry registry;
+    private SummarizationJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        jobService = new SummarizationJobService(textService, 1, 1, Duration.ofMinutes(1), 100, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.destroy();
+    }
+
+    @Test
+    void testSubmitSavesInBackgroundAndExposesTheResult() throws Exception {
+        // Arrange
+        Text saved = Text.builder().id(1L).text("Primeira frase. Segunda frase.").textReduced("Primeira frase.").build();
+        when(textService.saveText("Primeira frase. Segunda frase.", 1, SummaryAlgorithm.TFIDF, null)).thenReturn(saved);
+
+        // Act
+        SummarizationJob job = jobService.submit("Primeira frase. Segunda frase.", 1, SummaryAlgorithm.TFIDF, null);
+
+        // Assert
+        assertEquals(SummarizationJob.Status.PENDING, job.status());
+        SummarizationJob finished = awaitFinished(job);
+        assertEquals(SummarizationJob.Status.DONE, finished.status());
+        assertEquals(1L, finished.textId());
+    }
+
+    @Test
+    void testSubmitDuplicateTextFinishesAsDuplicate() throws Exception {
+        // Arrange
+        when(textService.saveText(anyString(), anyInt(), any(), any())).thenThrow(new DuplicateTextException());
+
+        // Act
+        SummarizationJob finished = awaitFinished(jobService.submit("Texto repetido.", 1, SummaryAlgorithm.LEAD, null));
+
+        // Assert
+        assertEquals(SummarizationJob.Status.DUPLICATE, finished.status());
+        assertEquals("Texto já existe no banco de dados.", finished.message());
+    }
+
+    @Test
+    void testSubmitWhenWorkerAndQueueAreBusyRejectsInsteadOfQueueing() throws Exception {
+        // Arrange: um worker ocupado e uma vaga na fila
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(textService.saveText(anyString(), anyInt(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new Text();
+        });
+        jobService.submit("Primeiro.", 1, SummaryAlgorithm.LEAD, null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        jobService.submit("Segundo.", 1, SummaryAlgorithm.LEAD, null);
+
+        try {
+            // Act & Assert
+            assertThrows(JobQueueFullException.class, () -> jobService.submit("Terceiro.", 1, SummaryAlgorithm.LEAD, null));
+            assertEquals(1.0, registry.get("summarizer.jobs.rejected").counter().count());
+            assertEquals(1.0, registry.get("executor.queued").tag("name", "summarizer.jobs").gauge().value());
+            assertEquals(1.0, registry.get("summarizer.jobs.utilization").gauge().value());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private SummarizationJob awaitFinished(SummarizationJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            SummarizationJob current = jobService.findById(job.id()).orElseThrow();
+            if (current.status() != SummarizationJob.Status.PENDING && current.status() != SummarizationJob.Status.RUNNING) {
+                return current;
+            }
+            Thread.sleep(10);
+        }
+        return fail("O job não terminou a tempo");
+    }
+}
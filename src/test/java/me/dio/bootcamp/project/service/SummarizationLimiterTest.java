@@ -0,0 +1,156 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SummarizationLimiterTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testAcquireAboveTheLimitRejectsImmediately() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(2, 1, 10, 10);
+        SummarizationLimiter.Permit first = limiter.acquire("a");
+        SummarizationLimiter.Permit second = limiter.acquire("b");
+
+        // Act & Assert
+        assertThrows(SummarizationOverloadedException.class, () -> limiter.acquire("c"));
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1.0, registry.get("summarizer.limiter.rejected").tag("reason", "limit").counter().count());
+
+        first.close();
+        second.close();
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0.0, registry.get("summarizer.limiter.inflight").gauge().value());
+    }
+
+    @Test
+    void testAcquireAboveTheClientQuotaRejectsOnlyThatClient() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(10, 1, 10, 2);
+        limiter.acquire("10.0.0.1");
+        SummarizationLimiter.Permit second = limiter.acquire("10.0.0.1");
+
+        // Act & Assert
+        assertThrows(SummarizationOverloadedException.class, () -> limiter.acquire("10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.2"));
+        assertEquals(1.0, registry.get("summarizer.limiter.rejected").tag("reason", "client").counter().count());
+
+        second.close();
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.1"));
+    }
+
+    @Test
+    void testCloseWhenSlowButUnsampledKeepsTheLimit() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(10, 2, 20, 10);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            SummarizationLimiter.Permit permit = limiter.acquireUnsampled("cliente");
+            clock.addAndGet(THRESHOLD.multipliedBy(20).toNanos());
+            permit.close();
+        }
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testAcquireUnsampledCountsTowardsTheLimitAndTheClientQuota() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(2, 1, 2, 1);
+        limiter.acquireUnsampled("10.0.0.1");
+
+        // Act & Assert
+        assertThrows(SummarizationOverloadedException.class, () -> limiter.acquire("10.0.0.1"));
+        limiter.acquire("10.0.0.2");
+        assertThrows(SummarizationOverloadedException.class, () -> limiter.acquireUnsampled("10.0.0.3"));
+    }
+
+    @Test
+    void testCloseWhenSlowDecreasesTheLimitMultiplicatively() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(10, 2, 20, 10);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            complete(limiter, THRESHOLD.multipliedBy(2));
+        }
+
+        // Assert
+        assertEquals(2, limiter.getLimit());
+        assertEquals(2.0, registry.get("summarizer.limiter.limit").gauge().value());
+    }
+
+    @Test
+    void testCloseWhenFastUnderLoadIncreasesTheLimitAdditively() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(4, 1, 6, 10);
+        SummarizationLimiter.Permit busy1 = limiter.acquire("a");
+        SummarizationLimiter.Permit busy2 = limiter.acquire("b");
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            complete(limiter, THRESHOLD.dividedBy(2));
+        }
+
+        // Assert: cresce de um em um até o máximo
+        assertEquals(6, limiter.getLimit());
+        busy1.close();
+        busy2.close();
+    }
+
+    @Test
+    void testCloseWhenFastButIdleKeepsTheLimit() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(8, 1, 20, 10);
+
+        // Act
+        complete(limiter, THRESHOLD.dividedBy(2));
+
+        // Assert
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void testCloseTwiceReleasesOnce() {
+        // Arrange
+        SummarizationLimiter limiter = limiter(2, 1, 2, 10);
+        SummarizationLimiter.Permit permit = limiter.acquire("a");
+        limiter.acquire("b");
+
+        // Act
+        permit.close();
+        permit.close();
+
+        // Assert
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    private void complete(SummarizationLimiter limiter, Duration latency) {
+        SummarizationLimiter.Permit permit = limiter.acquire("cliente");
+        clock.addAndGet(latency.toNanos());
+        permit.close();
+    }
+
+    private SummarizationLimiter limiter(int initial, int min, int max, int perClient) {
+        return new SummarizationLimiter(initial, min, max, perClient, THRESHOLD, 0.5, registry, clock::get);
+    }
+}
@@ -0,0 +1,163 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import me.dio.bootcamp.project.service.strategy.LeadSummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import me.dio.bootcamp.project.service.strategy.TextRankSummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.TfIdfSummarizationStrategy;
+import opennlp.tools.sentdetect.SentenceModel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Eventos JFR da sumarização e orçamento de alocação de {@link TextSummarizer#summarize}, medido pelo
+ * evento {@code jdk.ThreadAllocationStatistics} no início e no fim de uma gravação.
+ */
+public class SummarizerJfrTest {
+
+    private static final String SENTENCE = "O sistema recebe textos longos e os divide em sentenças para montar o resumo. ";
+    private static final int TEXTS = 50;
+
+    private static SentenceModel model;
+
+    @TempDir
+    private Path directory;
+
+    private SentenceDetectorPool pool;
+    private TextSummarizer summarizer;
+
+    @BeforeAll
+    static void loadModel() throws Exception {
+        model = SentenceDetectorPool.loadModel("pt", null);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = new SentenceDetectorPool(() -> model, false, 1, Duration.ofSeconds(5), "pt", new SimpleMeterRegistry());
+        summarizer = new TextSummarizer(
+                List.of(new LeadSummarizationStrategy(), new TfIdfSummarizationStrategy(),
+                        new TextRankSummarizationStrategy()),
+                new SummaryCache(DataSize.ofBytes(0), new SimpleMeterRegistry()),
+                new SentenceModelRegistry(pool, "pt", "", DataSize.ofMegabytes(256), 0, Duration.ofSeconds(5),
+                        new SimpleMeterRegistry()),
+                "model", new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testSummarizeEmitsDetectionAndBuildEvents() throws Exception {
+        // Arrange
+        String text = SENTENCE.repeat(5).trim();
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("me.dio.summarizer.ModelLoad");
+            recording.enable("me.dio.summarizer.SentenceDetection");
+            recording.enable("me.dio.summarizer.SummaryBuild");
+            recording.start();
+
+            // Act
+            new SentenceDetectorPool(() -> model, false, 2, Duration.ofSeconds(5), "pt", new SimpleMeterRegistry());
+            summarizer.summarize(text, 2, SummaryAlgorithm.LEAD, null);
+            summarizer.summarize(text, 2, SummaryAlgorithm.TEXTRANK, null);
+            events = read(recording);
+        }
+
+        // Assert
+        RecordedEvent load = only(events, "me.dio.summarizer.ModelLoad");
+        assertEquals(2, load.getInt("detectors"));
+        assertTrue(load.getBoolean("success"));
+
+        List<RecordedEvent> detections = named(events, "me.dio.summarizer.SentenceDetection");
+        assertEquals(List.of("firstSentences", "sentDetect"), detections.stream().map(e -> e.getString("operation")).toList());
+        assertEquals(List.of(text.length(), text.length()), detections.stream().map(e -> e.getInt("inputLength")).toList());
+        assertEquals(List.of(2, 5), detections.stream().map(e -> e.getInt("sentenceCount")).toList());
+
+        List<RecordedEvent> builds = named(events, "me.dio.summarizer.SummaryBuild");
+        assertEquals(List.of("lead", "textrank"), builds.stream().map(e -> e.getString("algorithm")).toList());
+        assertEquals(text.length(), builds.get(1).getInt("inputLength"));
+        assertTrue(builds.get(1).getInt("summaryLength") < text.length());
+    }
+
+    @Test
+    void testSummarizeLeadStaysWithinTheAllocationBudget() throws Exception {
+        // Act & Assert: medido ~4,2 KB por KB, quase tudo da chave do cache de resumos, que codifica o texto inteiro em UTF-8
+        assertAllocationBudget(SummaryAlgorithm.LEAD, 6 * 1024);
+    }
+
+    @Test
+    void testSummarizeTextRankStaysWithinTheAllocationBudget() throws Exception {
+        // Act & Assert: medido ~18 KB por KB, com as sentenças, os termos e a matriz de similaridade
+        assertAllocationBudget(SummaryAlgorithm.TEXTRANK, 24 * 1024);
+    }
+
+    /**
+     * Resume {@link #TEXTS} textos de ~10 KB depois do aquecimento e compara os bytes alocados pela
+     * thread do teste, por KB de entrada, com {@code bytesPerKilobyte}.
+     */
+    private void assertAllocationBudget(SummaryAlgorithm algorithm, long bytesPerKilobyte) throws Exception {
+        String[] texts = new String[TEXTS];
+        long inputBytes = 0;
+        for (int i = 0; i < TEXTS; i++) {
+            texts[i] = "Texto " + i + ". " + SENTENCE.repeat(128);
+            inputBytes += texts[i].length();
+        }
+        for (int i = 0; i < 3; i++) {
+            for (String text : texts) {
+                summarizer.summarize(text, 3, algorithm, null);
+            }
+        }
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ThreadAllocationStatistics").with("period", "everyChunk");
+            recording.start();
+            for (String text : texts) {
+                summarizer.summarize(text, 3, algorithm, null);
+            }
+            events = read(recording);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        List<Long> allocated = named(events, "jdk.ThreadAllocationStatistics").stream()
+                .filter(e -> e.getThread("thread") != null && e.getThread("thread").getJavaThreadId() == threadId)
+                .map(e -> e.getLong("allocated"))
+                .sorted()
+                .toList();
+        assertTrue(allocated.size() >= 2, "Sem amostras de alocação da thread do teste");
+        long perKilobyte = (allocated.get(allocated.size() - 1) - allocated.get(0)) * 1024 / inputBytes;
+        assertTrue(perKilobyte <= bytesPerKilobyte,
+                algorithm.id() + " alocou " + perKilobyte + " bytes por KB de entrada; o orçamento é " + bytesPerKilobyte);
+    }
+
+    private List<RecordedEvent> read(Recording recording) throws Exception {
+        recording.stop();
+        Path file = directory.resolve("summarizer.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> found = named(events, name);
+        assertEquals(1, found.size());
+        return found.get(0);
+    }
+}
@@ -0,0 +1,53 @@
+package me.dio.bootcamp.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SummaryCacheTest {
+
+    @Test
+    void testGetCachesByContentAndLines() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SummaryCache cache = new SummaryCache(DataSize.ofMegabytes(1), registry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        cache.get("Texto. Outro.", 1, SummaryAlgorithm.LEAD, "pt", () -> "Texto." + calls.incrementAndGet());
+        cache.get("Texto. Outro.", 1, SummaryAlgorithm.LEAD, "pt", () -> "Texto." + calls.incrementAndGet());
+        cache.get("Texto. Outro.", 2, SummaryAlgorithm.LEAD, "pt", () -> "Texto. Outro." + calls.incrementAndGet());
+        String differentCase = cache.get("TEXTO. OUTRO.", 1, SummaryAlgorithm.LEAD, "pt", () -> "TEXTO." + calls.incrementAndGet());
+        cache.get("Texto. Outro.", 1, SummaryAlgorithm.TEXTRANK, "pt", () -> "Outro." + calls.incrementAndGet());
+
+        // Assert
+        assertEquals(4, calls.get());
+        assertEquals("TEXTO.3", differentCase);
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "summaries").tag("result", "hit").functionCounter().count());
+        assertEquals(0.2, registry.get("summarizer.cache.hit.ratio").gauge().value());
+        assertTrue(registry.get("summarizer.cache.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void testGetEvictsWhenTheMemoryLimitIsReached() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SummaryCache cache = new SummaryCache(DataSize.ofKilobytes(4), registry);
+        String summary = "x".repeat(500);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            cache.get("Texto número " + i, 1, SummaryAlgorithm.LEAD, "pt", () -> summary);
+        }
+        cache.get("Texto número 0", 1, SummaryAlgorithm.LEAD, "pt", () -> summary);
+
+        // Assert
+        assertTrue(cache.getWeightedSize() <= DataSize.ofKilobytes(4).toBytes());
+        assertTrue(registry.get("cache.evictions").tag("cache", "summaries").functionCounter().count() > 0);
+    }
+}
@@ -0,0 +1,143 @@
+package me.dio.bootcamp.project.service;
+
+import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.repository.TextRepository;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TextBatchServiceTest {
+
+    @Mock
+    private TextRepository textRepository;
+
+    @Mock
+    private TextSummarizer summarizer;
+
+    private SummarizationExecutor executor;
+
+    private TextBatchService textBatchService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new SummarizationExecutor(4, 16, false);
+        textBatchService = new TextBatchService(textRepository, summarizer, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void testSaveTextsSummarizesAndSavesInOneBatch() {
+        // Arrange
+        List<String> texts = List.of("Primeiro texto. Segunda frase.", "Segundo texto. Outra frase.");
+        AtomicLong ids = new AtomicLong();
+
+        when(textRepository.findExistingContentHashes(anyList())).thenReturn(Collections.emptySet());
+        when(summarizer.summarize("Primeiro texto. Segunda frase.", 1, SummaryAlgorithm.LEAD, null)).thenReturn("Primeiro texto.");
+        when(summarizer.summarize("Segundo texto. Outra frase.", 1, SummaryAlgorithm.LEAD, null)).thenReturn("Segundo texto.");
+        when(textRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Text> batch = invocation.getArgument(0);
+            batch.forEach(text -> text.setId(ids.incrementAndGet()));
+            return batch;
+        });
+
+        // Act
+        List<BatchItemResult> results = textBatchService.saveTexts(texts, 1, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(BatchItemResult.Status.SAVED, results.get(0).status());
+        assertEquals("Primeiro texto.", results.get(0).text().getTextReduced());
+        assertEquals(BatchItemResult.Status.SAVED, results.get(1).status());
+        assertEquals("Segundo texto.", results.get(1).text().getTextReduced());
+        verify(textRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testSaveTextsTreatsNormalizedEqualTextsAsDuplicates() {
+        // Arrange
+        List<String> texts = List.of("Texto   repetido.", "texto repetido.");
+        when(textRepository.findExistingContentHashes(anyList())).thenReturn(Collections.emptySet());
+        when(summarizer.summarize("Texto   repetido.", 1, SummaryAlgorithm.LEAD, null)).thenReturn("Texto repetido.");
+        when(textRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<BatchItemResult> results = textBatchService.saveTexts(texts, 1, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals(BatchItemResult.Status.SAVED, results.get(0).status());
+        assertEquals(ContentHash.of("texto repetido."), results.get(0).text().getContentHash());
+        assertEquals(BatchItemResult.Status.DUPLICATE, results.get(1).status());
+        verify(textRepository, times(1)).findExistingContentHashes(anyList());
+    }
+
+    @Test
+    void testSaveTextsFallsBackToSingleInsertsOnConflict() {
+        // Arrange
+        List<String> texts = List.of("Texto inserido por outra requisição.", "Texto novo.");
+        when(textRepository.findExistingContentHashes(anyList())).thenReturn(Collections.emptySet());
+        when(summarizer.summarize(anyString(), eq(1), eq(SummaryAlgorithm.LEAD), isNull())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(textRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("text_content_hash_key"));
+        when(textRepository.save(argThat(text -> text != null && text.getText().startsWith("Texto inserido"))))
+                .thenThrow(new DataIntegrityViolationException("text_content_hash_key"));
+        when(textRepository.save(argThat(text -> text != null && text.getText().equals("Texto novo."))))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(textRepository.existsByContentHash(ContentHash.of("Texto inserido por outra requisição."))).thenReturn(true);
+
+        // Act
+        List<BatchItemResult> results = textBatchService.saveTexts(texts, 1, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals(BatchItemResult.Status.DUPLICATE, results.get(0).status());
+        assertEquals(BatchItemResult.Status.SAVED, results.get(1).status());
+    }
+
+    @Test
+    void testSaveTextsReportsDuplicatesAndFailures() {
+        // Arrange
+        List<String> texts = List.of("Texto existente.", "Texto novo.", "Texto novo.", "Texto com erro.");
+
+        when(textRepository.findExistingContentHashes(anyList())).thenReturn(Set.of(ContentHash.of("Texto existente.")));
+        when(summarizer.summarize("Texto novo.", 2, SummaryAlgorithm.LEAD, null)).thenReturn("Texto novo.");
+        when(summarizer.summarize("Texto com erro.", 2, SummaryAlgorithm.LEAD, null)).thenThrow(new IllegalStateException("falha no detector"));
+        when(textRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<BatchItemResult> results = textBatchService.saveTexts(texts, 2, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals(BatchItemResult.Status.DUPLICATE, results.get(0).status());
+        assertEquals(BatchItemResult.Status.SAVED, results.get(1).status());
+        assertEquals(BatchItemResult.Status.DUPLICATE, results.get(2).status());
+        assertEquals(BatchItemResult.Status.FAILED, results.get(3).status());
+        assertEquals("Erro ao resumir o texto: falha no detector", results.get(3).message());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Text>> saved = ArgumentCaptor.forClass(List.class);
+        verify(textRepository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        verify(summarizer, never()).summarize("Texto existente.", 2, SummaryAlgorithm.LEAD, null);
+    }
+}
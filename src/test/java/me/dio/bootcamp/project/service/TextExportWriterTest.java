@@ -0,0 +1,61 @@
+package me.dio.bootcamp.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextExportWriterTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Test
+    void testNdjsonWritesOneObjectPerLine() throws Exception {
+        // Arrange
+        TextExportWriter writer = TextExportWriter.of(ExportFormat.NDJSON, out, new ObjectMapper());
+
+        // Act
+        writer.row(1, "Texto com \"aspas\".\nE quebra.", "Texto.");
+        writer.row(2, "Sem resumo.", null);
+        writer.flush();
+
+        // Assert
+        assertEquals("{\"id\":1,\"text\":\"Texto com \\\"aspas\\\".\\nE quebra.\",\"textReduced\":\"Texto.\"}\n"
+                + "{\"id\":2,\"text\":\"Sem resumo.\",\"textReduced\":null}\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCsvQuotesOnlyTheFieldsThatNeedIt() throws Exception {
+        // Arrange
+        TextExportWriter writer = TextExportWriter.of(ExportFormat.CSV, out, new ObjectMapper());
+
+        // Act
+        writer.row(1, "Texto simples.", "Texto.");
+        writer.row(2, "Vírgula, \"aspas\" e\nquebra.", null);
+        writer.flush();
+
+        // Assert
+        assertEquals("id,text,textReduced\n"
+                + "1,Texto simples.,Texto.\n"
+                + "2,\"Vírgula, \"\"aspas\"\" e\nquebra.\",\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCsvIsReadBackByTheImport() throws Exception {
+        // Arrange
+        TextExportWriter writer = TextExportWriter.of(ExportFormat.CSV, out, new ObjectMapper());
+        String text = "Vírgula, \"aspas\" e fim.";
+
+        // Act
+        writer.row(7, text, "");
+        writer.flush();
+
+        // Assert
+        String record = out.toString(StandardCharsets.UTF_8).split("\n")[1];
+        assertEquals(List.of("7", text, ""), TextImportService.csvFields(record));
+    }
+}
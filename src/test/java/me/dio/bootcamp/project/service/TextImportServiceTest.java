@@ -0,0 +1,209 @@
+package me.dio.bootcamp.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dio.bootcamp.project.entity.Text;
+import me.dio.bootcamp.project.repository.TextCopyRepository;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TextImportServiceTest {
+
+    @Mock
+    private TextCopyRepository copyRepository;
+
+    @Mock
+    private TextSummarizer summarizer;
+
+    @TempDir
+    private Path directory;
+
+    private SummarizationExecutor executor;
+    private SimpleMeterRegistry registry;
+    private final List<String> copied = new ArrayList<>();
+    private final Set<String> hashes = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = new SummarizationExecutor(4, 16, false);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void testImportJsonlSummarizesAndCopiesInChunks() throws Exception {
+        // Arrange
+        String longText = "Frase longa. ".repeat(10_000);
+        Path file = write("textos.jsonl", """
+                {"text": "Primeiro texto. Segunda frase."}
+                {"text": "Segundo texto."}
+
+                {"text": "%s"}
+                {"text": "Quarto texto.", "autor": "ignorado"}
+                {"text": "Quinto texto."}
+                """.formatted(longText));
+        givenSummariesAndCopy();
+        List<ImportReport> progress = new ArrayList<>();
+
+        // Act
+        ImportReport report = service(2).importFile(file, ImportFormat.JSONL, 1, SummaryAlgorithm.LEAD, progress::add);
+
+        // Assert
+        assertEquals(List.of("Primeiro texto. Segunda frase.", "Segundo texto.", longText, "Quarto texto.", "Quinto texto."), copied);
+        verify(copyRepository, times(3)).copy(anyList());
+        assertEquals(3, progress.size());
+        assertEquals(5, report.imported());
+        assertEquals(5, report.processed());
+        assertEquals(Files.size(file), report.position());
+        assertEquals(100.0, report.percent());
+        assertFalse(Files.exists(TextImportService.checkpointFile(file)));
+        assertEquals(5.0, registry.get("summarizer.import.records").tag("status", "imported").counter().count());
+    }
+
+    @Test
+    void testImportCsvReadsQuotedFieldsAcrossLines() throws Exception {
+        // Arrange
+        Path file = write("textos.csv", "\uFEFFid,text\r\n"
+                + "1,Texto simples.\r\n"
+                + "2,\"Texto com vírgula, e \"\"aspas\"\".\"\r\n"
+                + "3,\"Texto em\nduas linhas.\"\r\n");
+        givenSummariesAndCopy();
+
+        // Act
+        ImportReport report = service(10).importFile(file, ImportFormat.CSV, 1, SummaryAlgorithm.LEAD, r -> { });
+
+        // Assert
+        assertEquals(List.of("Texto simples.", "Texto com vírgula, e \"aspas\".", "Texto em\nduas linhas."), copied);
+        assertEquals(3, report.imported());
+    }
+
+    @Test
+    void testImportCsvWithoutTextColumnFails() throws Exception {
+        // Arrange
+        Path file = write("textos.csv", "id,conteudo\n1,Texto.\n");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> service(10).importFile(file, ImportFormat.CSV, 1, SummaryAlgorithm.LEAD, r -> { }));
+        verifyNoInteractions(copyRepository);
+    }
+
+    @Test
+    void testImportCountsDuplicatesAndInvalidRecords() throws Exception {
+        // Arrange
+        Path file = write("textos.jsonl", """
+                {"text": "Texto válido."}
+                {"text": "   "}
+                não é json
+                {"titulo": "sem texto"}
+                {"text": "%s"}
+                {"text": "Texto VÁLIDO."}
+                """.formatted("x".repeat(2048)));
+        givenSummariesAndCopy();
+
+        // Act
+        ImportReport report = new TextImportService(copyRepository, summarizer, executor, new ObjectMapper(), 10,
+                DataSize.ofKilobytes(1), registry)
+                .importFile(file, ImportFormat.JSONL, 1, SummaryAlgorithm.LEAD, r -> { });
+
+        // Assert
+        assertEquals(1, report.imported());
+        assertEquals(1, report.duplicates());
+        assertEquals(4, report.failed());
+        assertEquals(6, report.processed());
+    }
+
+    @Test
+    void testImportAfterAFailureResumesFromTheCheckpoint() throws Exception {
+        // Arrange
+        Path file = write("textos.jsonl", """
+                {"text": "Texto um."}
+                {"text": "Texto dois."}
+                {"text": "Texto três."}
+                {"text": "Texto quatro."}
+                {"text": "Texto cinco."}
+                """);
+        when(summarizer.summarize(anyString(), anyInt(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(copyRepository.copy(anyList()))
+                .thenAnswer(invocation -> copy(invocation.getArgument(0)))
+                .thenThrow(new IllegalStateException("conexão perdida"))
+                .thenAnswer(invocation -> copy(invocation.getArgument(0)));
+        TextImportService service = service(2);
+
+        // Act & Assert: o primeiro lote foi gravado antes da falha
+        assertThrows(IllegalStateException.class,
+                () -> service.importFile(file, ImportFormat.JSONL, 1, SummaryAlgorithm.LEAD, r -> { }));
+        assertTrue(Files.exists(TextImportService.checkpointFile(file)));
+        assertEquals(List.of("Texto um.", "Texto dois."), copied);
+
+        // Act
+        ImportReport report = service.importFile(file, ImportFormat.JSONL, 1, SummaryAlgorithm.LEAD, r -> { });
+
+        // Assert: a retomada começa no segundo lote e os totais somam as duas execuções
+        assertEquals(List.of("Texto um.", "Texto dois.", "Texto três.", "Texto quatro.", "Texto cinco."), copied);
+        assertEquals(5, report.imported());
+        assertEquals(3, report.processed());
+        assertFalse(Files.exists(TextImportService.checkpointFile(file)));
+    }
+
+    @Test
+    void testCsvFieldsSplitsAndUnquotes() {
+        // Act & Assert
+        assertEquals(List.of("a", "b, c", "d \"e\"", ""), TextImportService.csvFields("a,\"b, c\",\"d \"\"e\"\"\","));
+    }
+
+    private TextImportService service(int chunkSize) {
+        return new TextImportService(copyRepository, summarizer, executor, new ObjectMapper(), chunkSize,
+                DataSize.ofMegabytes(10), registry);
+    }
+
+    private void givenSummariesAndCopy() {
+        when(summarizer.summarize(anyString(), anyInt(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(copyRepository.copy(anyList())).thenAnswer(invocation -> copy(invocation.getArgument(0)));
+    }
+
+    /**
+     * Imita o {@code ON CONFLICT DO NOTHING}: só conta os textos com hash novo.
+     */
+    private int copy(List<Text> texts) {
+        int inserted = 0;
+        for (Text text : texts) {
+            if (hashes.add(text.getContentHash())) {
+                copied.add(text.getText());
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
@@ -1,14 +1,19 @@
 package me.dio.bootcamp.project.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import me.dio.bootcamp.project.entity.Text;
 import me.dio.bootcamp.project.repository.TextRepository;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import opennlp.tools.util.Span;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,10 +31,14 @@ public class TextServiceIntegrationTest {
     @Mock
     private TextSummarizer textSummarizer;
 
+    @Mock
+    private SentenceDetectorPool detectorPool;
+
     @BeforeEach
-    void setUp() {
+    void setUp() throws IOException {
         // Inicializa o serviço com os mocks
-        textService = new TextService(textRepository, textSummarizer);
+        textService = new TextService(textRepository, textSummarizer, new SentenceModelRegistry(detectorPool, "pt", "",
+                DataSize.ofMegabytes(256), 0, Duration.ofSeconds(5), new SimpleMeterRegistry()));
     }
 
     @Test
@@ -40,7 +49,7 @@ public class TextServiceIntegrationTest {
         int lines = 1;
 
         // Configure o comportamento do mock do summarizer
-        when(textSummarizer.summarize(originalText, lines)).thenReturn(summarizedText);
+        when(textSummarizer.summarize(originalText, lines, SummaryAlgorithm.LEAD, null)).thenReturn(summarizedText);
 
         // Configure o comportamento do repository mock
         when(textRepository.save(any(Text.class))).thenAnswer(invocation -> {
@@ -50,7 +59,7 @@ public class TextServiceIntegrationTest {
         });
 
         // Act
-        Text result = textService.saveText(originalText, lines);
+        Text result = textService.saveText(originalText, lines, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertNotNull(result);
@@ -58,7 +67,7 @@ public class TextServiceIntegrationTest {
         assertEquals(originalText, result.getText());
         assertEquals(summarizedText, result.getTextReduced());
 
-        verify(textSummarizer).summarize(originalText, lines);
+        verify(textSummarizer).summarize(originalText, lines, SummaryAlgorithm.LEAD, null);
         verify(textRepository).save(any(Text.class));
     }
 
@@ -77,11 +86,12 @@ public class TextServiceIntegrationTest {
         existingText.setTextReduced("Texto original.");
 
         when(textRepository.findById(id)).thenReturn(Optional.of(existingText));
-        when(textSummarizer.summarize(updatedText, lines)).thenReturn(summarizedText);
+        when(textSummarizer.summarize(updatedText, lines, SummaryAlgorithm.LEAD, "pt")).thenReturn(summarizedText);
         when(textRepository.save(any(Text.class))).thenReturn(existingText);
+        when(detectorPool.sentPosDetect(updatedText)).thenReturn(new Span[]{new Span(0, 17), new Span(18, 37)});
 
         // Act
-        Text result = textService.updateText(id, updatedText, lines);
+        Text result = textService.updateText(id, updatedText, lines, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertNotNull(result);
@@ -90,7 +100,7 @@ public class TextServiceIntegrationTest {
         assertEquals(summarizedText, result.getTextReduced());
 
         verify(textRepository).findById(id);
-        verify(textSummarizer).summarize(updatedText, lines);
+        verify(textSummarizer).summarize(updatedText, lines, SummaryAlgorithm.LEAD, "pt");
         verify(textRepository).save(any(Text.class));
     }
 }
\ No newline at end of file
@@ -2,12 +2,17 @@ package me.dio.bootcamp.project.service;
 
 import me.dio.bootcamp.project.entity.Text;
 import me.dio.bootcamp.project.repository.TextRepository;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import opennlp.tools.util.Span;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,6 +33,12 @@ public class TextServiceTest {
     @Mock
     private TextSummarizer summarizer;
 
+    @Mock
+    private SentenceDetectorPool detectorPool;
+
+    @Mock
+    private SentenceModelRegistry modelRegistry;
+
     @InjectMocks
     private TextService textService;
 
@@ -48,7 +59,7 @@ public class TextServiceTest {
         String summarizedText = "Este é um texto de exemplo completo.";
         int lines = 1;
 
-        when(summarizer.summarize(originalText, lines)).thenReturn(summarizedText);
+        when(summarizer.summarize(originalText, lines, SummaryAlgorithm.LEAD, null)).thenReturn(summarizedText);
         when(textRepository.save(any(Text.class))).thenAnswer(invocation -> {
             Text textToSave = invocation.getArgument(0);
             textToSave.setId(1L);
@@ -56,15 +67,16 @@ public class TextServiceTest {
         });
 
         // Act
-        Text result = textService.saveText(originalText, lines);
+        Text result = textService.saveText(originalText, lines, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals(originalText, result.getText());
         assertEquals(summarizedText, result.getTextReduced());
+        assertEquals(ContentHash.of(originalText), result.getContentHash());
 
-        verify(summarizer).summarize(originalText, lines);
+        verify(summarizer).summarize(originalText, lines, SummaryAlgorithm.LEAD, null);
         verify(textRepository).save(any(Text.class));
     }
 
@@ -74,7 +86,7 @@ public class TextServiceTest {
         String searchText = "exemplo";
         List<Text> expectedTexts = Collections.singletonList(sampleText);
 
-        when(textRepository.findByTextContainingIgnoreCase(searchText)).thenReturn(expectedTexts);
+        when(textRepository.searchByContent(searchText)).thenReturn(expectedTexts);
 
         // Act
         List<Text> result = textService.findByContent(searchText);
@@ -85,31 +97,61 @@ public class TextServiceTest {
         assertEquals(sampleText.getId(), result.get(0).getId());
         assertEquals(sampleText.getText(), result.get(0).getText());
 
-        verify(textRepository).findByTextContainingIgnoreCase(searchText);
+        verify(textRepository).searchByContent(searchText);
     }
 
     @Test
-    void testFindAll() {
+    void testFindByContentEscapesLikeWildcards() {
+        // Arrange
+        when(textRepository.searchByContent(anyString())).thenReturn(Collections.emptyList());
+
+        // Act
+        textService.findByContent("100%_pronto\\");
+
+        // Assert
+        verify(textRepository).searchByContent("100\\%\\_pronto\\\\");
+    }
+
+    @Test
+    void testFindPage() {
         // Arrange
         Text anotherText = new Text();
         anotherText.setId(2L);
         anotherText.setText("Outro texto para testar");
         anotherText.setTextReduced("Outro texto para testar");
 
-        List<Text> expectedTexts = Arrays.asList(sampleText, anotherText);
-
-        when(textRepository.findAll()).thenReturn(expectedTexts);
+        when(textRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(Arrays.asList(sampleText, anotherText));
 
         // Act
-        List<Text> result = textService.findAll();
+        TextPage result = textService.findPage(0L, 2);
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals(1L, result.get(0).getId());
-        assertEquals(2L, result.get(1).getId());
+        assertEquals(2, result.texts().size());
+        assertEquals(1L, result.texts().get(0).getId());
+        assertEquals(2L, result.texts().get(1).getId());
+        assertNull(result.nextCursor());
 
-        verify(textRepository).findAll();
+        verify(textRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3));
+    }
+
+    @Test
+    void testFindPageWithMoreResults() {
+        // Arrange
+        Text anotherText = new Text();
+        anotherText.setId(2L);
+
+        when(textRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(sampleText, anotherText));
+
+        // Act
+        TextPage result = textService.findPage(0L, 1);
+
+        // Assert
+        assertEquals(1, result.texts().size());
+        assertEquals(1L, result.texts().get(0).getId());
+        assertEquals(1L, result.nextCursor());
     }
 
     @Test
@@ -150,22 +192,48 @@ public class TextServiceTest {
         String summarizedNewText = "Texto atualizado para teste.";
         int lines = 1;
 
+        sampleText.setSentenceOffsets(new byte[]{0, 10});
         when(textRepository.findById(id)).thenReturn(Optional.of(sampleText));
-        when(summarizer.summarize(newText, lines)).thenReturn(summarizedNewText);
-        when(textRepository.save(any(Text.class))).thenReturn(sampleText);
+        when(modelRegistry.resolve(null, newText)).thenReturn("pt");
+        when(summarizer.summarize(newText, lines, SummaryAlgorithm.LEAD, "pt")).thenReturn(summarizedNewText);
+        when(textRepository.save(any(Text.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(modelRegistry.detectors("pt")).thenReturn(detectorPool);
+        when(detectorPool.sentPosDetect(newText)).thenReturn(new Span[]{new Span(0, 28), new Span(29, 52)});
 
         // Act
-        Text result = textService.updateText(id, newText, lines);
+        Text result = textService.updateText(id, newText, lines, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertNotNull(result);
         assertEquals(id, result.getId());
         assertEquals(newText, result.getText());
         assertEquals(summarizedNewText, result.getTextReduced());
+        assertEquals(ContentHash.of(newText), result.getContentHash());
+        assertEquals(summarizedNewText, SentenceOffsets.slice(newText, result.getSentenceOffsets(), 1));
 
         verify(textRepository).findById(id);
-        verify(summarizer).summarize(newText, lines);
-        verify(textRepository).save(any(Text.class));
+        verify(summarizer).summarize(newText, lines, SummaryAlgorithm.LEAD, "pt");
+        verify(textRepository).save(sampleText);
+    }
+
+    @Test
+    void testUpdateTextUsesTheRequestedLanguageForSummaryAndOffsets() {
+        // Arrange
+        String newText = "The first sentence. The second one.";
+        when(textRepository.findById(1L)).thenReturn(Optional.of(sampleText));
+        when(modelRegistry.resolve("en", newText)).thenReturn("en");
+        when(summarizer.summarize(newText, 1, SummaryAlgorithm.LEAD, "en")).thenReturn("The first sentence.");
+        when(modelRegistry.detectors("en")).thenReturn(detectorPool);
+        when(detectorPool.sentPosDetect(newText)).thenReturn(new Span[]{new Span(0, 19), new Span(20, 35)});
+        when(textRepository.save(any(Text.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Text result = textService.updateText(1L, newText, 1, SummaryAlgorithm.LEAD, "en");
+
+        // Assert
+        assertEquals("The first sentence.", SentenceOffsets.slice(newText, result.getSentenceOffsets(), 1));
+        verify(modelRegistry).resolve("en", newText);
+        verify(modelRegistry, never()).detectors("pt");
     }
 
     @Test
@@ -178,14 +246,13 @@ public class TextServiceTest {
         when(textRepository.findById(id)).thenReturn(Optional.empty());
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            textService.updateText(id, newText, lines);
+        TextNotFoundException exception = assertThrows(TextNotFoundException.class, () -> {
+            textService.updateText(id, newText, lines, SummaryAlgorithm.LEAD, null);
         });
 
         assertEquals("Texto não encontrado com o ID: " + id, exception.getMessage());
 
-        verify(textRepository).findById(id);
-        verify(summarizer, never()).summarize(anyString(), anyInt());
+        verify(summarizer, never()).summarize(anyString(), anyInt(), any(), any());
         verify(textRepository, never()).save(any(Text.class));
     }
 
@@ -193,61 +260,164 @@ public class TextServiceTest {
     void testDeleteText() {
         // Arrange
         Long id = 1L;
-        when(textRepository.existsById(id)).thenReturn(true);
-        doNothing().when(textRepository).deleteById(id);
+        when(textRepository.findById(id)).thenReturn(Optional.of(sampleText));
 
         // Act
         textService.deleteText(id);
 
         // Assert
-        verify(textRepository).existsById(id);
-        verify(textRepository).deleteById(id);
+        verify(textRepository).delete(sampleText);
+        verify(textRepository, never()).deleteById(any());
     }
 
     @Test
     void testDeleteTextNotFound() {
         // Arrange
         Long id = 999L;
-        when(textRepository.existsById(id)).thenReturn(false);
+        when(textRepository.findById(id)).thenReturn(Optional.empty());
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        TextNotFoundException exception = assertThrows(TextNotFoundException.class, () -> {
             textService.deleteText(id);
         });
 
         assertEquals("Texto não encontrado com o ID: " + id, exception.getMessage());
-
-        verify(textRepository).existsById(id);
-        verify(textRepository, never()).deleteById(any());
+        verify(textRepository, never()).delete(any(Text.class));
     }
 
     @Test
     void testExistsByText() {
         // Arrange
-        String text = "exemplo";
-        when(textRepository.findByTextContainingIgnoreCase(text))
-                .thenReturn(Collections.singletonList(sampleText));
+        String text = "Este é um texto de exemplo completo.";
+        when(textRepository.existsByContentHash(ContentHash.of(text))).thenReturn(true);
 
         // Act
         boolean result = textService.existsByText(text);
 
         // Assert
         assertTrue(result);
-        verify(textRepository).findByTextContainingIgnoreCase(text);
+        verify(textRepository).existsByContentHash(ContentHash.of(text));
+        verify(textRepository, never()).searchByContent(anyString());
     }
 
     @Test
     void testExistsByTextNotFound() {
         // Arrange
         String text = "inexistente";
-        when(textRepository.findByTextContainingIgnoreCase(text))
-                .thenReturn(Collections.emptyList());
+        when(textRepository.existsByContentHash(ContentHash.of(text))).thenReturn(false);
+
+        // Act
+        boolean result = textService.existsByText(text);
+
+        // Assert
+        assertFalse(result);
+        verify(textRepository).existsByContentHash(ContentHash.of(text));
+    }
+
+    @Test
+    void testExistsByTextDoesNotMatchSubstrings() {
+        // Arrange
+        String text = "exemplo";
+        when(textRepository.existsByContentHash(ContentHash.of(text))).thenReturn(false);
 
         // Act
         boolean result = textService.existsByText(text);
 
         // Assert
         assertFalse(result);
-        verify(textRepository).findByTextContainingIgnoreCase(text);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSaveTextWhenConcurrentDuplicateIsInserted() {
+        // Arrange
+        String originalText = "Texto salvo por duas requisições ao mesmo tempo.";
+        when(summarizer.summarize(originalText, 1, SummaryAlgorithm.LEAD, null)).thenReturn(originalText);
+        when(textRepository.save(any(Text.class))).thenThrow(new DataIntegrityViolationException("text_content_hash_key"));
+        when(textRepository.existsByContentHash(ContentHash.of(originalText))).thenReturn(true);
+
+        // Act & Assert
+        DuplicateTextException exception = assertThrows(DuplicateTextException.class, () -> {
+            textService.saveText(originalText, 1, SummaryAlgorithm.LEAD, null);
+        });
+
+        assertEquals("Texto já existe no banco de dados.", exception.getMessage());
+    }
+
+    @Test
+    void testSummarizeWithoutStoredOffsetsDetectsOnceAndStoresThem() {
+        // Arrange
+        String text = sampleText.getText();
+        Span[] spans = {new Span(0, 36), new Span(37, 71)};
+        when(textRepository.findById(1L)).thenReturn(Optional.of(sampleText));
+        when(modelRegistry.resolve(null, text)).thenReturn("pt");
+        when(modelRegistry.detectors("pt")).thenReturn(detectorPool);
+        when(detectorPool.sentPosDetect(text)).thenReturn(spans);
+
+        // Act
+        Optional<String> result = textService.summarize(1L, 1, null);
+
+        // Assert
+        assertEquals(Optional.of("Este é um texto de exemplo completo."), result);
+        verify(textRepository).saveSentenceOffsets(1L, text, SentenceOffsets.encode(spans));
+    }
+
+    @Test
+    void testSummarizeWithLanguageUsesThatModel() {
+        // Arrange
+        String text = sampleText.getText();
+        when(textRepository.findById(1L)).thenReturn(Optional.of(sampleText));
+        when(modelRegistry.resolve("es", text)).thenReturn("es");
+        when(modelRegistry.detectors("es")).thenReturn(detectorPool);
+        when(detectorPool.sentPosDetect(text)).thenReturn(new Span[]{new Span(0, 36), new Span(37, 71)});
+
+        // Act
+        Optional<String> result = textService.summarize(1L, 1, "es");
+
+        // Assert
+        assertEquals(Optional.of("Este é um texto de exemplo completo."), result);
+        verify(modelRegistry, never()).detectors("pt");
+    }
+
+    @Test
+    void testSummarizeWhenTextChangesConcurrentlyStillReturnsTheSummary() {
+        // Arrange
+        String text = sampleText.getText();
+        when(textRepository.findById(1L)).thenReturn(Optional.of(sampleText));
+        when(modelRegistry.resolve(null, text)).thenReturn("pt");
+        when(modelRegistry.detectors("pt")).thenReturn(detectorPool);
+        when(detectorPool.sentPosDetect(text)).thenReturn(new Span[]{new Span(0, 36), new Span(37, 71)});
+        when(textRepository.saveSentenceOffsets(eq(1L), eq(text), any()))
+                .thenThrow(new OptimisticLockingFailureException("versão desatualizada"));
+
+        // Act
+        Optional<String> result = textService.summarize(1L, 1, null);
+
+        // Assert
+        assertEquals(Optional.of("Este é um texto de exemplo completo."), result);
+    }
+
+    @Test
+    void testSummarizeWithStoredOffsetsDoesNotUseTheModel() {
+        // Arrange
+        sampleText.setSentenceOffsets(SentenceOffsets.encode(new Span[]{new Span(0, 36), new Span(37, 71)}));
+        when(textRepository.findById(1L)).thenReturn(Optional.of(sampleText));
+
+        // Act
+        Optional<String> result = textService.summarize(1L, 5, null);
+
+        // Assert
+        assertEquals(Optional.of(sampleText.getText()), result);
+        verifyNoInteractions(detectorPool);
+        verify(textRepository, never()).saveSentenceOffsets(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void testSummarizeNotFound() {
+        // Arrange
+        when(textRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(textService.summarize(99L, 2, null).isEmpty());
+        verifyNoInteractions(detectorPool);
+    }
+}
@@ -1,13 +1,21 @@
 package me.dio.bootcamp.project.service;
 
-import opennlp.tools.sentdetect.SentenceDetectorME;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dio.bootcamp.project.service.strategy.LeadSummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.SummaryAlgorithm;
+import me.dio.bootcamp.project.service.strategy.TextRankSummarizationStrategy;
+import me.dio.bootcamp.project.service.strategy.TfIdfSummarizationStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -16,20 +24,20 @@ import static org.mockito.Mockito.*;
 public class TextSummarizerTest {
 
     @Mock
-    private SentenceDetectorME sentenceDetector;
+    private SentenceDetectorPool sentenceDetector;
 
+    private SimpleMeterRegistry registry;
     private TextSummarizer textSummarizer;
 
     @BeforeEach
     void setUp() throws IOException {
-        // Cria uma subclasse anônima de TextSummarizer para evitar carregar o modelo real
-        textSummarizer = new TextSummarizer() {
-            // Sobrescreve o construtor para não carregar o modelo
-            {
-                // Substitui o detector de sentenças pelo mock
-                this.sentenceDetector = TextSummarizerTest.this.sentenceDetector;
-            }
-        };
+        // Usa um pool mockado para evitar carregar o modelo real
+        registry = new SimpleMeterRegistry();
+        textSummarizer = new TextSummarizer(
+                List.of(new LeadSummarizationStrategy(),
+                        new TfIdfSummarizationStrategy(),
+                        new TextRankSummarizationStrategy()),
+                new SummaryCache(DataSize.ofMegabytes(1), registry), modelRegistry(), "model", registry);
     }
 
     @Test
@@ -42,14 +50,14 @@ public class TextSummarizerTest {
                 "Esta é a terceira frase."
         };
 
-        when(sentenceDetector.sentDetect(text)).thenReturn(sentences);
+        stubFirstSentences(text, sentences);
 
         // Act
-        String result = textSummarizer.summarize(text, 3);
+        String result = textSummarizer.summarize(text, 3, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertEquals("Esta é a primeira frase. Esta é a segunda frase. Esta é a terceira frase.", result);
-        verify(sentenceDetector).sentDetect(text);
+        verify(sentenceDetector).firstSentences(eq(text), anyInt());
     }
 
     @Test
@@ -62,14 +70,14 @@ public class TextSummarizerTest {
                 "Esta é a terceira frase."
         };
 
-        when(sentenceDetector.sentDetect(text)).thenReturn(sentences);
+        stubFirstSentences(text, sentences);
 
         // Act
-        String result = textSummarizer.summarize(text, 2);
+        String result = textSummarizer.summarize(text, 2, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertEquals("Esta é a primeira frase. Esta é a segunda frase.", result);
-        verify(sentenceDetector).sentDetect(text);
+        verify(sentenceDetector).firstSentences(eq(text), anyInt());
     }
 
     @Test
@@ -78,14 +86,14 @@ public class TextSummarizerTest {
         String text = "Esta é a única frase.";
         String[] sentences = {"Esta é a única frase."};
 
-        when(sentenceDetector.sentDetect(text)).thenReturn(sentences);
+        stubFirstSentences(text, sentences);
 
         // Act
-        String result = textSummarizer.summarize(text, 3);
+        String result = textSummarizer.summarize(text, 3, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertEquals("Esta é a única frase.", result);
-        verify(sentenceDetector).sentDetect(text);
+        verify(sentenceDetector).firstSentences(eq(text), anyInt());
     }
 
     @Test
@@ -94,13 +102,109 @@ public class TextSummarizerTest {
         String text = "";
         String[] sentences = {};
 
-        when(sentenceDetector.sentDetect(text)).thenReturn(sentences);
+        stubFirstSentences(text, sentences);
 
         // Act
-        String result = textSummarizer.summarize(text, 1);
+        String result = textSummarizer.summarize(text, 1, SummaryAlgorithm.LEAD, null);
 
         // Assert
         assertEquals("", result);
+        verify(sentenceDetector).firstSentences(eq(text), anyInt());
+    }
+
+    @Test
+    void testSummarizeSameTextTwiceUsesCache() {
+        // Arrange
+        String text = "Esta é a primeira frase. Esta é a segunda frase.";
+        String[] sentences = {"Esta é a primeira frase.", "Esta é a segunda frase."};
+
+        stubFirstSentences(text, sentences);
+
+        // Act
+        String first = textSummarizer.summarize(text, 1, SummaryAlgorithm.LEAD, null);
+        String second = textSummarizer.summarize(text, 1, SummaryAlgorithm.LEAD, null);
+        String withMoreLines = textSummarizer.summarize(text, 2, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals("Esta é a primeira frase.", first);
+        assertEquals(first, second);
+        assertEquals("Esta é a primeira frase. Esta é a segunda frase.", withMoreLines);
+        verify(sentenceDetector, times(2)).firstSentences(eq(text), anyInt());
+    }
+
+    @Test
+    void testSummarizeWithAlgorithmCachesAndTimesEachStrategySeparately() {
+        // Arrange
+        String text = "O gato dormiu. O gato comeu a ração do gato. Choveu.";
+        String[] sentences = {"O gato dormiu.", "O gato comeu a ração do gato.", "Choveu."};
+
+        stubFirstSentences(text, sentences);
+        when(sentenceDetector.sentDetect(text)).thenReturn(sentences);
+
+        // Act
+        String lead = textSummarizer.summarize(text, 1, SummaryAlgorithm.LEAD, null);
+        String tfidf = textSummarizer.summarize(text, 1, SummaryAlgorithm.TFIDF, null);
+        textSummarizer.summarize(text, 1, SummaryAlgorithm.TFIDF, null);
+
+        // Assert
+        assertEquals("O gato dormiu.", lead);
+        assertEquals("O gato comeu a ração do gato.", tfidf);
+        verify(sentenceDetector).firstSentences(eq(text), anyInt());
         verify(sentenceDetector).sentDetect(text);
+        assertEquals(1, registry.get("summarizer.strategy").tag("algorithm", "lead").timer().count());
+        assertEquals(1, registry.get("summarizer.strategy").tag("algorithm", "tfidf").timer().count());
+        assertEquals(0, registry.get("summarizer.strategy").tag("algorithm", "textrank").timer().count());
+    }
+
+    @Test
+    void testSummarizeRecordsInputSizeAndCompressionRatio() {
+        // Arrange
+        String text = "Primeira frase. Segunda frase.";
+        String[] sentences = {"Primeira frase.", "Segunda frase."};
+
+        stubFirstSentences(text, sentences);
+
+        // Act
+        textSummarizer.summarize(text, 1, SummaryAlgorithm.LEAD, null);
+        textSummarizer.summarize(text, 1, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals(2, registry.get("summarizer.input.size").summary().count());
+        assertEquals(30.0, registry.get("summarizer.input.size").summary().max());
+        assertEquals(50.0, registry.get("summarizer.compression.ratio").tag("algorithm", "lead").summary().mean());
+    }
+
+    @Test
+    void testSummarizeWithRulesSplitterUsesTheModelOnlyForAmbiguousText() throws IOException {
+        // Arrange
+        TextSummarizer rulesSummarizer = new TextSummarizer(List.of(new LeadSummarizationStrategy()),
+                new SummaryCache(DataSize.ofMegabytes(1), registry), modelRegistry(),
+                "rules", registry);
+        String ambiguous = "Comprou frutas etc. Depois voltou. Fim.";
+        stubFirstSentences(ambiguous, new String[]{"Comprou frutas etc.", "Depois voltou.", "Fim."});
+
+        // Act
+        String clean = rulesSummarizer.summarize("Primeira frase. Segunda frase. Terceira frase.", 2, SummaryAlgorithm.LEAD, null);
+        String fallback = rulesSummarizer.summarize(ambiguous, 1, SummaryAlgorithm.LEAD, null);
+
+        // Assert
+        assertEquals("Primeira frase. Segunda frase.", clean);
+        assertEquals("Comprou frutas etc.", fallback);
+        verify(sentenceDetector, times(1)).firstSentences(anyString(), anyInt());
+        assertThrows(IllegalArgumentException.class, () -> new TextSummarizer(List.of(),
+                new SummaryCache(DataSize.ofMegabytes(1), registry), modelRegistry(),
+                "regex", registry));
+    }
+
+    /** O registro real, só com o idioma padrão, atendido pelo pool mockado. */
+    private SentenceModelRegistry modelRegistry() throws IOException {
+        return new SentenceModelRegistry(sentenceDetector, "pt", "", DataSize.ofMegabytes(1), 0, Duration.ofSeconds(5),
+                registry);
+    }
+
+    /** Simula o pool devolvendo no máximo as {@code count} primeiras sentenças. */
+    private void stubFirstSentences(String text, String[] sentences) {
+        when(sentenceDetector.firstSentences(eq(text), anyInt())).thenAnswer(invocation ->
+                Arrays.copyOf(sentences, Math.min(sentences.length, invocation.<Integer>getArgument(1))));
     }
-}
\ No newline at end of file
+}
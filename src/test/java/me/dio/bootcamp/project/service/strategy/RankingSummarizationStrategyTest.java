@@ -0,0 +1,159 @@
+package me.dio.bootcamp.project.service.strategy;
+
+import me.dio.bootcamp.project.service.SentenceSplitter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RankingSummarizationStrategyTest {
+
+    private static final String[] SENTENCES = {
+            "Choveu bastante durante a madrugada.",
+            "O banco central anunciou nova taxa de juros para o crédito imobiliário.",
+            "A taxa de juros mais alta encarece o crédito e reduz o consumo das famílias.",
+            "Analistas esperam que a taxa de juros caia no próximo ano, barateando o crédito.",
+            "O time da casa venceu o clássico no domingo."
+    };
+    private static final String TEXT = String.join(" ", SENTENCES);
+
+    @Mock
+    private SentenceSplitter splitter;
+
+    @Test
+    void testTfIdfPicksSentencesClosestToTheCentroidInOriginalOrder() {
+        // Arrange
+        when(splitter.sentDetect(TEXT)).thenReturn(SENTENCES);
+        TfIdfSummarizationStrategy strategy = new TfIdfSummarizationStrategy();
+
+        // Act
+        String result = strategy.summarize(TEXT, 2, splitter);
+
+        // Assert
+        assertOnTopicInOriginalOrder(result);
+    }
+
+    @Test
+    void testTextRankPicksTheMostConnectedSentencesInOriginalOrder() {
+        // Arrange
+        when(splitter.sentDetect(TEXT)).thenReturn(SENTENCES);
+        TextRankSummarizationStrategy strategy = new TextRankSummarizationStrategy();
+
+        // Act
+        String result = strategy.summarize(TEXT, 2, splitter);
+
+        // Assert
+        assertOnTopicInOriginalOrder(result);
+    }
+
+    @Test
+    void testSummarizeWithMoreLinesThanSentencesKeepsEverything() {
+        // Arrange
+        when(splitter.sentDetect(TEXT)).thenReturn(SENTENCES);
+
+        // Act & Assert
+        assertEquals(TEXT, new TextRankSummarizationStrategy().summarize(TEXT, 10, splitter));
+        assertEquals(TEXT, new TfIdfSummarizationStrategy().summarize(TEXT, 5, splitter));
+    }
+
+    @Test
+    void testSummarizeWithOnlyStopwordsFallsBackToTheFirstSentences() {
+        // Arrange
+        String[] sentences = {"E o que é isso?", "Não é.", "Mas é."};
+        when(splitter.sentDetect("x")).thenReturn(sentences);
+
+        // Act & Assert
+        assertEquals("E o que é isso?", new TextRankSummarizationStrategy().summarize("x", 1, splitter));
+        assertEquals("E o que é isso? Não é.", new TfIdfSummarizationStrategy().summarize("x", 2, splitter));
+    }
+
+    @Test
+    void testTextRankWithMoreSentencesThanTheCapRanksOnlyTheFirstOnes() {
+        // Arrange: acima de 46.340 sentenças, n * n estouraria um int
+        String[] sentences = new String[50_000];
+        for (int i = 0; i < sentences.length; i++) {
+            sentences[i] = SENTENCES[i % SENTENCES.length];
+        }
+        when(splitter.sentDetect("x")).thenReturn(sentences);
+        TextRankSummarizationStrategy strategy = new TextRankSummarizationStrategy();
+
+        // Act
+        String result = strategy.summarize("x", 50_000 - 1, splitter);
+
+        // Assert
+        assertEquals(String.join(" ", Arrays.copyOf(sentences, RankingSummarizationStrategy.MAX_RANKED_SENTENCES)),
+                result);
+    }
+
+    @Test
+    void testWorkspaceShrinksBackAfterALargeText() {
+        // Arrange
+        RankingWorkspace workspace = new RankingWorkspace();
+        String[] sentences = new String[2_000];
+        for (int i = 0; i < sentences.length; i++) {
+            sentences[i] = "Sentença número " + i + " com termo" + i + ".";
+        }
+        workspace.index(sentences, sentences.length);
+        workspace.matrix(sentences.length * sentences.length);
+
+        // Act
+        workspace.trim();
+
+        // Assert
+        assertTrue(workspace.matrix.length <= RankingWorkspace.RETAINED_SENTENCES * RankingWorkspace.RETAINED_SENTENCES);
+        assertTrue(workspace.scores.length <= RankingWorkspace.RETAINED_SENTENCES);
+        assertTrue(workspace.tokens.length <= RankingWorkspace.RETAINED_TOKENS);
+        assertTrue(workspace.termFrequency.length <= RankingWorkspace.RETAINED_TERMS);
+    }
+
+    @Test
+    void testRankingATypicalTextStaysInTheLowMilliseconds() {
+        // Arrange: ~1500 caracteres em 20 sentenças
+        List<String> sentences = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sentences.add(SENTENCES[i % SENTENCES.length].replace(".", " número " + i + "."));
+        }
+        String[] detected = sentences.toArray(String[]::new);
+        String text = String.join(" ", detected);
+        when(splitter.sentDetect(text)).thenReturn(detected);
+        List<RankingSummarizationStrategy> strategies = List.of(
+                new TfIdfSummarizationStrategy(), new TextRankSummarizationStrategy());
+
+        for (RankingSummarizationStrategy strategy : strategies) {
+            for (int i = 0; i < 2_000; i++) {
+                strategy.summarize(text, 3, splitter);
+            }
+
+            // Act
+            int runs = 1_000;
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                strategy.summarize(text, 3, splitter);
+            }
+            double millis = (System.nanoTime() - start) / 1e6 / runs;
+
+            // Assert
+            System.out.printf("%s: %.3f ms por texto de %d caracteres%n", strategy.algorithm().id(), millis, text.length());
+            assertTrue(millis < 5, strategy.algorithm().id() + " levou " + millis + " ms");
+        }
+    }
+
+    /** As duas sentenças escolhidas devem ser sobre juros (1 a 3) e aparecer na ordem do texto. */
+    private static void assertOnTopicInOriginalOrder(String result) {
+        List<String> expected = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            for (int j = i + 1; j <= 3; j++) {
+                expected.add(SENTENCES[i] + " " + SENTENCES[j]);
+            }
+        }
+        assertTrue(expected.contains(result), "Resumo inesperado: " + result);
+    }
+}